@@ -0,0 +1,57 @@
+package com.employee.benchmark;
+
+import com.Main;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Starts the application against a private H2 database, with or without a
+ * web server, and seeds it with generated employees for the benchmarks.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String databaseName, String... properties) {
+        return start(WebApplicationType.NONE, databaseName, properties);
+    }
+
+    static ConfigurableApplicationContext startServer(String databaseName, String... properties) {
+        return start(WebApplicationType.SERVLET, databaseName, properties);
+    }
+
+    // Passed as command line arguments, since default properties would lose to the profile
+    // property files. Later properties replace earlier ones with the same name.
+    private static ConfigurableApplicationContext start(WebApplicationType type, String databaseName, String... properties) {
+        Map<String, String> arguments = new LinkedHashMap<>();
+        Stream.concat(Stream.of(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "employee.r2dbc.url=r2dbc:h2:mem:///" + databaseName + "?DB_CLOSE_DELAY=-1&DB_CLOSE_ON_EXIT=FALSE",
+                        "server.port=0",
+                        "spring.devtools.restart.enabled=false",
+                        "logging.level.root=warn"),
+                Stream.of(properties))
+                .forEach(property -> arguments.put(property.substring(0, property.indexOf('=')), property));
+        return new SpringApplicationBuilder(Main.class)
+                .web(type)
+                .profiles("h2")
+                .run(arguments.values().stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    static void seedEmployees(ConfigurableApplicationContext context, int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM NOTE");
+        jdbcTemplate.update("DELETE FROM EMPLOYEE");
+        jdbcTemplate.update("INSERT INTO EMPLOYEE (FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) "
+                + "SELECT 'First' || X, 'Last' || X, 'employee' || X || '@example.com' FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.update("INSERT INTO NOTE (EMPLOYEE_ID, TEXT) "
+                + "SELECT EMPLOYEE_ID, 'Note for ' || FIRST_NAME FROM EMPLOYEE");
+    }
+}
@@ -0,0 +1,182 @@
+package com.employee.benchmark;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test of the five employee endpoints over HTTP, reporting throughput
+ * for each connection pool size.
+ *
+ * Each trial starts an H2 TCP server in the benchmark JVM and the application
+ * with the h2 and performance profiles, connected to it over the loopback
+ * interface, so every statement pays a network round trip as it would against
+ * a real database server. Nothing outside the machine is needed. The pool
+ * size is the only setting varied; {@code @Threads} clients, more than the
+ * largest pool, keep it saturated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(64)
+public class EmployeeLoadBenchmark {
+
+    private static final int ROWS = 1000;
+    // Enough for one iteration at well over ten thousand deletes a second.
+    private static final int DELETABLE_ROWS = 200_000;
+
+    @Param({"2", "4", "8", "16", "32"})
+    private int poolSize;
+
+    private Server databaseServer;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private int[] employeeIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        int databasePort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            databasePort = socket.getLocalPort();
+        }
+        databaseServer = Server.createTcpServer("-tcpPort", String.valueOf(databasePort), "-ifNotExists").start();
+        context = BenchmarkApplication.startServer("employee-load-benchmark",
+                "spring.profiles.active=h2,performance",
+                "spring.datasource.url=jdbc:h2:tcp://localhost:" + databasePort + "/mem:employee-load-benchmark;DB_CLOSE_DELAY=-1",
+                "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "spring.datasource.hikari.minimum-idle=" + poolSize);
+        BenchmarkApplication.seedEmployees(context, ROWS);
+        employeeIds = context.getBean(JdbcTemplate.class)
+                .queryForList("SELECT EMPLOYEE_ID FROM EMPLOYEE ORDER BY EMPLOYEE_ID", Integer.class)
+                .stream().mapToInt(Integer::intValue).toArray();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort() + "/api/employees";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        databaseServer.stop();
+    }
+
+    @Benchmark
+    public int findEmployees() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl)), 200);
+    }
+
+    @Benchmark
+    public int findEmployee() throws IOException, InterruptedException {
+        int employeeId = employeeIds[ThreadLocalRandom.current().nextInt(employeeIds.length)];
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + employeeId)), 200);
+    }
+
+    @Benchmark
+    public int createEmployee() throws IOException, InterruptedException {
+        int n = ThreadLocalRandom.current().nextInt(1_000_000);
+        return send(HttpRequest.newBuilder(URI.create(baseUrl))
+                .POST(json(n, "Created")), 201);
+    }
+
+    // Each thread updates only its own share of the employees, so no two updates race
+    // on a row and end in an optimistic locking conflict.
+    @Benchmark
+    public int updateEmployee(Updates updates) throws IOException, InterruptedException {
+        int employeeId = updates.next(employeeIds);
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + employeeId))
+                .PUT(json(updates.count, "Updated")), 200);
+    }
+
+    @Benchmark
+    public int deleteEmployee(DeletableEmployees deletable) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + deletable.next())).DELETE(), 204);
+    }
+
+    private int send(HttpRequest.Builder request, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request
+                        .header("Accept", "application/json")
+                        .header("Content-Type", "application/json")
+                        .timeout(Duration.ofSeconds(30))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + " from " + response.uri());
+        }
+        return response.statusCode();
+    }
+
+    private static HttpRequest.BodyPublisher json(int n, String firstName) {
+        return HttpRequest.BodyPublishers.ofString("{\"firstName\":\"" + firstName + n + "\",\"lastName\":\"Load\","
+                + "\"emailAddress\":\"load" + n + "@example.com\",\"notes\":[\"Note " + n + "\"]}");
+    }
+
+    @State(Scope.Thread)
+    public static class Updates {
+
+        private int thread;
+        private int threads;
+        private int count;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threadParams) {
+            thread = threadParams.getThreadIndex();
+            threads = threadParams.getThreadCount();
+        }
+
+        // Every update changes the first name, so none of them is skipped as a no-op.
+        int next(int[] employeeIds) {
+            int slots = (employeeIds.length - thread + threads - 1) / threads;
+            return employeeIds[thread + threads * (count++ % slots)];
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DeletableEmployees {
+
+        private final AtomicInteger position = new AtomicInteger();
+        private int[] employeeIds;
+
+        // Refilled before every iteration, outside the measured time.
+        @Setup(Level.Iteration)
+        public void setUp(EmployeeLoadBenchmark benchmark) {
+            JdbcTemplate jdbcTemplate = benchmark.context.getBean(JdbcTemplate.class);
+            jdbcTemplate.update("DELETE FROM NOTE WHERE EMPLOYEE_ID IN (SELECT EMPLOYEE_ID FROM EMPLOYEE WHERE LAST_NAME = 'Deletable')");
+            jdbcTemplate.update("DELETE FROM EMPLOYEE WHERE LAST_NAME = 'Deletable'");
+            jdbcTemplate.update("INSERT INTO EMPLOYEE (FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) "
+                    + "SELECT 'First' || X, 'Deletable', 'deletable' || X || '@example.com' FROM SYSTEM_RANGE(1, ?)", DELETABLE_ROWS);
+            jdbcTemplate.update("INSERT INTO NOTE (EMPLOYEE_ID, TEXT) "
+                    + "SELECT EMPLOYEE_ID, 'Note for ' || FIRST_NAME FROM EMPLOYEE WHERE LAST_NAME = 'Deletable'");
+            employeeIds = jdbcTemplate
+                    .queryForList("SELECT EMPLOYEE_ID FROM EMPLOYEE WHERE LAST_NAME = 'Deletable'", Integer.class)
+                    .stream().mapToInt(Integer::intValue).toArray();
+            position.set(0);
+        }
+
+        int next() {
+            int index = position.getAndIncrement();
+            if (index >= employeeIds.length) {
+                throw new IllegalStateException("All " + employeeIds.length + " deletable employees were deleted; raise DELETABLE_ROWS");
+            }
+            return employeeIds[index];
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.employee.benchmark;
+
+import com.employee.api.model.EmployeeDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks writing and reading a 10,000 employee response as JSON and as
+ * Smile, the two formats the employee API negotiates, using the ObjectMapper
+ * defaults Spring MVC builds for each format's message converter.
+ *
+ * The setup prints the encoded size of the response in each format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeWireFormatBenchmark {
+
+    private static final TypeReference<List<EmployeeDTO>> EMPLOYEE_LIST = new TypeReference<>() { };
+
+    @Param({"json", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private List<EmployeeDTO> employees;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = "smile".equals(format)
+                ? Jackson2ObjectMapperBuilder.smile().build()
+                : Jackson2ObjectMapperBuilder.json().build();
+        employees = new ArrayList<>(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            EmployeeDTO dto = new EmployeeDTO();
+            dto.setEmployeeID(i);
+            dto.setFirstName("First" + i);
+            dto.setLastName("Last" + i);
+            dto.setEmailAddress("employee" + i + "@example.com");
+            dto.setNotes(Arrays.asList("First note", "Second note"));
+            employees.add(dto);
+        }
+        encoded = objectMapper.writeValueAsBytes(employees);
+        System.out.printf("%n%s: %,d bytes for %,d employees%n", format, encoded.length, employees.size());
+    }
+
+    @Benchmark
+    public byte[] writeEmployees() throws Exception {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> readEmployees() throws Exception {
+        return objectMapper.readValue(encoded, EMPLOYEE_LIST);
+    }
+}
@@ -0,0 +1,99 @@
+package com.employee.benchmark;
+
+import com.employee.api.controller.EmployeeExportController;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the streaming export: the full NDJSON export into a discarding stream, and the
+ * time until the first flush reaches the client. Run with {@code -prof gc} to compare allocation
+ * and heap use across row counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExportEmployeesBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeExportController controller;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("export-employees-benchmark");
+        BenchmarkApplication.seedEmployees(context, rows);
+        controller = context.getBean(EmployeeExportController.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long exportNdjson() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        controller.exportEmployees("ndjson").getBody().writeTo(out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long timeToFirstByte() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        try {
+            controller.exportEmployees("ndjson").getBody().writeTo(new FirstFlushOutputStream(out));
+        } catch (FirstFlushException e) {
+            // the export is abandoned as soon as the first bytes would reach the client
+        }
+        return out.count;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    private static class FirstFlushOutputStream extends OutputStream {
+        private final OutputStream delegate;
+
+        FirstFlushOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            throw new FirstFlushException();
+        }
+    }
+
+    private static class FirstFlushException extends IOException {
+    }
+}
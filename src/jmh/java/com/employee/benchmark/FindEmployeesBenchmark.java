@@ -0,0 +1,44 @@
+package com.employee.benchmark;
+
+import com.employee.api.behavior.FindEmployees;
+import com.employee.api.model.EmployeeDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks EmployeeService.findEmployees end to end against an in-memory H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FindEmployeesBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private FindEmployees findEmployees;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("find-employees-benchmark");
+        BenchmarkApplication.seedEmployees(context, rows);
+        findEmployees = context.getBean(FindEmployees.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> findEmployees() {
+        return findEmployees.findEmployees();
+    }
+}
@@ -0,0 +1,47 @@
+package com.employee.benchmark;
+
+import com.employee.api.behavior.SearchEmployees;
+import com.employee.api.model.EmployeePageDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks EmployeeService.searchEmployees against an in-memory H2 database. The queries match
+ * a first name, a last name and an email prefix, each selecting a handful of the seeded rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SearchEmployeesBenchmark {
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"First12345", "last98765", "EMPLOYEE4242"})
+    private String query;
+
+    private ConfigurableApplicationContext context;
+    private SearchEmployees searchEmployees;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("search-employees-benchmark");
+        BenchmarkApplication.seedEmployees(context, rows);
+        searchEmployees = context.getBean(SearchEmployees.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeePageDTO searchEmployees() {
+        return searchEmployees.searchEmployees(query, null, 20);
+    }
+}
@@ -0,0 +1,50 @@
+package com.employee.internal;
+
+import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the DTO to entity conversions in EmployeeMapper.
+ *
+ * Lives in the internal package because the mapper methods are package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeMapperBenchmark {
+
+    private EmployeeMapper mapper;
+    private EmployeeDTO employeeDTO;
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        mapper = new EmployeeMapper(new SimpleMeterRegistry());
+
+        employeeDTO = new EmployeeDTO();
+        employeeDTO.setEmployeeID(1);
+        employeeDTO.setFirstName("John");
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setEmailAddress("john.doe@example.com");
+        employeeDTO.setNotes(Arrays.asList("First note", "Second note", "Third note"));
+
+        employee = mapper.toEntity(employeeDTO);
+    }
+
+    @Benchmark
+    public Employee toEntity() {
+        return mapper.toEntity(employeeDTO);
+    }
+
+    @Benchmark
+    public EmployeeDTO toDTO() {
+        return mapper.toDTO(employee);
+    }
+}
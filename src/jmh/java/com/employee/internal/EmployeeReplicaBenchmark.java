@@ -0,0 +1,74 @@
+package com.employee.internal;
+
+import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for lookups against a replica of one million employees.
+ *
+ * The setup also prints the heap retained by the replica snapshot, measured
+ * as the difference in used heap after a full GC before and after it is built.
+ * Lives in the internal package because the replica classes are package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class EmployeeReplicaBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Maria", "Ahmed", "Wei", "Olga", "Kofi", "Priya"};
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Garcia", "Khan", "Chen", "Ivanova", "Mensah", "Patel"};
+
+    private EmployeeMapper mapper;
+    private EmployeeReplicaTable table;
+
+    @Setup
+    public void setUp() {
+        mapper = new EmployeeMapper(new SimpleMeterRegistry());
+
+        long before = usedHeapAfterGc();
+        SortedMap<Integer, ReplicaEmployee> employees = new TreeMap<>();
+        for (int id = 1; id <= EMPLOYEES; id++) {
+            // new String(...) so the names are not already literals, as they would not be when read from the database.
+            employees.put(id, new ReplicaEmployee(
+                    id,
+                    new String(FIRST_NAMES[id % FIRST_NAMES.length]),
+                    new String(LAST_NAMES[id / FIRST_NAMES.length % LAST_NAMES.length]),
+                    "employee" + id + "@example.com",
+                    new String[]{"Joined in cohort " + id % 97, "Reviewed on day " + id % 365},
+                    0));
+        }
+        table = EmployeeReplicaTable.EMPTY.with(employees);
+        employees = null;
+        long retained = usedHeapAfterGc() - before;
+        System.out.printf("%nReplica of %,d employees retains %,d MB (%d bytes per employee)%n",
+                table.size(), retained >> 20, retained / EMPLOYEES);
+    }
+
+    @Benchmark
+    public ReplicaEmployee get() {
+        return table.get(ThreadLocalRandom.current().nextInt(1, EMPLOYEES + 1));
+    }
+
+    @Benchmark
+    public EmployeeDTO findEmployee() {
+        return mapper.toDTO(table.get(ThreadLocalRandom.current().nextInt(1, EMPLOYEES + 1)));
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -1,6 +1,6 @@
 package com;
 
-import org.h2.server.web.WebServlet;
+import org.h2.server.web.JakartaWebServlet;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
@@ -14,8 +14,8 @@ public class Main {
     }
 
     @Bean
-    ServletRegistrationBean<WebServlet> h2servletRegistration() {
-        ServletRegistrationBean<WebServlet> registrationBean = new ServletRegistrationBean<>(new WebServlet());
+    ServletRegistrationBean<JakartaWebServlet> h2servletRegistration() {
+        ServletRegistrationBean<JakartaWebServlet> registrationBean = new ServletRegistrationBean<>(new JakartaWebServlet());
         registrationBean.addUrlMappings("/console/*");
         return registrationBean;
     }
@@ -0,0 +1,9 @@
+package com.employee.api.behavior;
+
+import com.employee.api.model.BulkItemResultDTO;
+
+import java.util.List;
+
+public interface BulkDeleteEmployees {
+    List<BulkItemResultDTO> deleteEmployees(List<Integer> employeeIds);
+}
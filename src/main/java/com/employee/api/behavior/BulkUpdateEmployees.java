@@ -0,0 +1,10 @@
+package com.employee.api.behavior;
+
+import com.employee.api.model.BulkItemResultDTO;
+import com.employee.api.model.EmployeeDTO;
+
+import java.util.List;
+
+public interface BulkUpdateEmployees {
+    List<BulkItemResultDTO> updateEmployees(List<EmployeeDTO> employeeDTOs);
+}
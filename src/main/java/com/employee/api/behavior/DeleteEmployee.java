@@ -1,5 +1,5 @@
 package com.employee.api.behavior;
 
 public interface DeleteEmployee {
-    void deleteEmployee(int employeeId);
+    boolean deleteEmployee(int employeeId);
 }
@@ -0,0 +1,10 @@
+package com.employee.api.behavior;
+
+import com.employee.api.model.EmployeeCreationDTO;
+import com.employee.api.model.EmployeeDTO;
+
+import java.util.Optional;
+
+public interface EnqueueEmployee {
+    Optional<EmployeeCreationDTO> enqueueEmployee(EmployeeDTO employeeDTO);
+}
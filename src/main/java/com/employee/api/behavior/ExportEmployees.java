@@ -0,0 +1,9 @@
+package com.employee.api.behavior;
+
+import com.employee.api.model.EmployeeDTO;
+
+import java.util.function.Consumer;
+
+public interface ExportEmployees {
+    void exportEmployees(Consumer<EmployeeDTO> consumer);
+}
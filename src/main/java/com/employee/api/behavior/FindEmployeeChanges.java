@@ -0,0 +1,9 @@
+package com.employee.api.behavior;
+
+import com.employee.api.model.EmployeeChangeDTO;
+
+import java.util.List;
+
+public interface FindEmployeeChanges {
+    List<EmployeeChangeDTO> findEmployeeChanges(long since, int limit);
+}
@@ -0,0 +1,9 @@
+package com.employee.api.behavior;
+
+import com.employee.api.model.EmployeeCreationDTO;
+
+import java.util.Optional;
+
+public interface FindEmployeeCreation {
+    Optional<EmployeeCreationDTO> findEmployeeCreation(String creationId);
+}
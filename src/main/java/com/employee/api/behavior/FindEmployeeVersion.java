@@ -0,0 +1,7 @@
+package com.employee.api.behavior;
+
+import java.util.Optional;
+
+public interface FindEmployeeVersion {
+    Optional<Long> findEmployeeVersion(int employeeId);
+}
@@ -0,0 +1,7 @@
+package com.employee.api.behavior;
+
+import com.employee.api.model.EmployeePageDTO;
+
+public interface FindEmployeesPage {
+    EmployeePageDTO findEmployeesPage(Integer after, int limit);
+}
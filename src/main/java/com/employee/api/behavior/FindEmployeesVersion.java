@@ -0,0 +1,5 @@
+package com.employee.api.behavior;
+
+public interface FindEmployeesVersion {
+    String findEmployeesVersion();
+}
@@ -0,0 +1,11 @@
+package com.employee.api.behavior;
+
+import com.employee.api.model.EmployeeDTO;
+import com.employee.api.model.EmployeeImportDTO;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface ImportEmployees {
+    EmployeeImportDTO importEmployees(Iterator<EmployeeDTO> employees, Consumer<EmployeeImportDTO> progress);
+}
@@ -0,0 +1,8 @@
+package com.employee.api.behavior;
+
+import com.employee.api.model.EmployeeDTO;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveFindEmployees {
+    Flux<EmployeeDTO> findEmployees();
+}
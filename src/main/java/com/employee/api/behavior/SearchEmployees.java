@@ -0,0 +1,7 @@
+package com.employee.api.behavior;
+
+import com.employee.api.model.EmployeePageDTO;
+
+public interface SearchEmployees {
+    EmployeePageDTO searchEmployees(String query, Integer after, int limit);
+}
@@ -0,0 +1,10 @@
+package com.employee.api.behavior;
+
+import com.employee.api.model.EmployeeChangeDTO;
+
+import java.util.function.Consumer;
+
+public interface StreamEmployeeChanges {
+    // Returns a handle that stops the stream.
+    Runnable streamEmployeeChanges(long since, Consumer<EmployeeChangeDTO> listener);
+}
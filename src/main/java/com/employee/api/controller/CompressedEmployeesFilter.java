@@ -0,0 +1,214 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.FindEmployeesVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves {@code GET /api/employees} from a small cache of gzip-compressed
+ * JSON bodies, keyed by the collection version that also backs its ETag.
+ * A repeat request at the same version skips loading, serialization and
+ * compression and is answered from the cached bytes.
+ *
+ * Only requests that accept gzip and prefer JSON take this path, and only
+ * bodies of at least {@code minResponseSize} are cached. Everything else,
+ * including other formats and requests that could be answered with 304,
+ * goes to the controller and is compressed, if at all, by the container.
+ */
+public class CompressedEmployeesFilter extends OncePerRequestFilter {
+
+    // Set by the container per response or recorded separately in the entry.
+    private static final Set<String> UNCACHED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.CONTENT_TYPE.toLowerCase(),
+            HttpHeaders.CONTENT_ENCODING.toLowerCase(),
+            HttpHeaders.DATE.toLowerCase(),
+            HttpHeaders.ETAG.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase());
+
+    private final FindEmployeesVersion findEmployeesVersion;
+    private final int minResponseSize;
+    private final Map<String, CompressedResponse> responses;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bytesSaved;
+
+    public CompressedEmployeesFilter(
+            FindEmployeesVersion findEmployeesVersion,
+            int cacheSize,
+            int minResponseSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.findEmployeesVersion = findEmployeesVersion;
+        this.minResponseSize = minResponseSize;
+        this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompressedResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.hits = cacheCounter(meterRegistry, "hit");
+        this.misses = cacheCounter(meterRegistry, "miss");
+        this.bytesSaved = Counter.builder("employee.compression.bytes.saved")
+                .description("Bytes not sent because a cached employee list was served compressed")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !"/api/employees".equals(request.getRequestURI())
+                || request.getQueryString() != null
+                || !acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+                || !prefersJson(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // Read before the controller runs, so an entry is never filed under a newer version than its body.
+        // CORS headers depend on the Origin, so it is part of the key as well.
+        String key = findEmployeesVersion.findEmployeesVersion() + " " + request.getHeader(HttpHeaders.ORIGIN);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+
+        CompressedResponse cached = get(key);
+        if (cached != null && !EmployeeController.anyMatches(ifNoneMatch, cached.etag)) {
+            hits.increment();
+            cached.headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            write(response, cached);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        if (cached != null || !isCacheable(wrapper)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        misses.increment();
+        CompressedResponse compressed = compress(wrapper);
+        put(key, compressed);
+        write(response, compressed);
+    }
+
+    private boolean isCacheable(ContentCachingResponseWrapper wrapper) {
+        return wrapper.getStatus() == HttpStatus.OK.value()
+                && wrapper.getContentSize() >= minResponseSize
+                && wrapper.getHeader(HttpHeaders.ETAG) != null
+                && wrapper.getContentType() != null
+                && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(wrapper.getContentType()));
+    }
+
+    // Compressed once per version and then served many times, so the extra CPU of the best level pays off.
+    private CompressedResponse compress(ContentCachingResponseWrapper wrapper) throws IOException {
+        byte[] body = wrapper.getContentAsByteArray();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        }
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : wrapper.getHeaderNames()) {
+            if (!UNCACHED_HEADERS.contains(name.toLowerCase())) {
+                headers.put(name, new ArrayList<>(wrapper.getHeaders(name)));
+            }
+        }
+        return new CompressedResponse(
+                wrapper.getHeader(HttpHeaders.ETAG), wrapper.getContentType(), headers, out.toByteArray(), body.length);
+    }
+
+    // The gzip bytes are a different representation of the same data, so the tag is
+    // weakened, as Tomcat does when it compresses a response itself.
+    private void write(HttpServletResponse response, CompressedResponse compressed) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(compressed.contentType);
+        response.setHeader(HttpHeaders.ETAG, "W/" + compressed.etag);
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentLength(compressed.body.length);
+        response.getOutputStream().write(compressed.body);
+        bytesSaved.increment(compressed.uncompressedLength - compressed.body.length);
+    }
+
+    private synchronized CompressedResponse get(String key) {
+        return responses.get(key);
+    }
+
+    private synchronized void put(String key, CompressedResponse compressed) {
+        responses.put(key, compressed);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    static boolean prefersJson(String accept) {
+        if (accept == null) {
+            return true;
+        }
+        List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(mediaTypes);
+        return !mediaTypes.isEmpty() && mediaTypes.get(0).includes(MediaType.APPLICATION_JSON);
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("employee.compression.cache")
+                .description("Requests for the employee list that could be served from compressed bytes")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class CompressedResponse {
+
+        private final String etag;
+        private final String contentType;
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+        private final int uncompressedLength;
+
+        private CompressedResponse(
+                String etag, String contentType, Map<String, List<String>> headers, byte[] body, int uncompressedLength) {
+            this.etag = etag;
+            this.contentType = contentType;
+            this.headers = headers;
+            this.body = body;
+            this.uncompressedLength = uncompressedLength;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.BulkCreateEmployees;
+import com.employee.api.behavior.BulkDeleteEmployees;
+import com.employee.api.behavior.BulkUpdateEmployees;
+import com.employee.api.model.BulkItemResultDTO;
+import com.employee.api.model.EmployeeDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin(origins = "http://localhost:4200")
+@RestController
+public class EmployeeBatchController {
+
+    private final BulkCreateEmployees bulkCreateEmployees;
+    private final BulkUpdateEmployees bulkUpdateEmployees;
+    private final BulkDeleteEmployees bulkDeleteEmployees;
+
+    @Autowired
+    public EmployeeBatchController(
+            BulkCreateEmployees bulkCreateEmployees,
+            BulkUpdateEmployees bulkUpdateEmployees,
+            BulkDeleteEmployees bulkDeleteEmployees
+    ) {
+        this.bulkCreateEmployees = bulkCreateEmployees;
+        this.bulkUpdateEmployees = bulkUpdateEmployees;
+        this.bulkDeleteEmployees = bulkDeleteEmployees;
+    }
+
+    @PostMapping("/api/employees/batch")
+    public ResponseEntity<List<BulkItemResultDTO>> createEmployees(@RequestBody List<EmployeeDTO> employeeDTOs) {
+        List<BulkItemResultDTO> results = bulkCreateEmployees.createEmployees(employeeDTOs);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @PutMapping("/api/employees/batch")
+    public ResponseEntity<List<BulkItemResultDTO>> updateEmployees(@RequestBody List<EmployeeDTO> employeeDTOs) {
+        List<BulkItemResultDTO> results = bulkUpdateEmployees.updateEmployees(employeeDTOs);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @DeleteMapping("/api/employees/batch")
+    public ResponseEntity<List<BulkItemResultDTO>> deleteEmployees(@RequestBody List<Integer> employeeIds) {
+        List<BulkItemResultDTO> results = bulkDeleteEmployees.deleteEmployees(employeeIds);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+}
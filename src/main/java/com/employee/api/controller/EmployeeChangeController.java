@@ -0,0 +1,66 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.FindEmployeeChanges;
+import com.employee.api.behavior.StreamEmployeeChanges;
+import com.employee.api.model.EmployeeChangeDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@CrossOrigin(origins = "http://localhost:4200")
+@RestController
+public class EmployeeChangeController {
+
+    private final FindEmployeeChanges findEmployeeChanges;
+    private final StreamEmployeeChanges streamEmployeeChanges;
+
+    @Autowired
+    public EmployeeChangeController(FindEmployeeChanges findEmployeeChanges, StreamEmployeeChanges streamEmployeeChanges) {
+        this.findEmployeeChanges = findEmployeeChanges;
+        this.streamEmployeeChanges = streamEmployeeChanges;
+    }
+
+    @GetMapping("/api/employees/changes")
+    public ResponseEntity<List<EmployeeChangeDTO>> findEmployeeChanges(
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "limit", defaultValue = "1000") int limit
+    ) {
+        List<EmployeeChangeDTO> changes = findEmployeeChanges.findEmployeeChanges(since, limit);
+        return new ResponseEntity<>(changes, HttpStatus.OK);
+    }
+
+    // Each event's id is its sequence number, so a reconnecting EventSource resumes
+    // from Last-Event-ID without missing or repeating a change.
+    @GetMapping(value = "/api/employees/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEmployeeChanges(
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        SseEmitter emitter = new SseEmitter();
+        Runnable stop = streamEmployeeChanges.streamEmployeeChanges(
+                lastEventId != null ? lastEventId : since,
+                change -> send(emitter, change));
+        emitter.onCompletion(stop);
+        emitter.onTimeout(stop);
+        emitter.onError(error -> stop.run());
+        return emitter;
+    }
+
+    private static void send(SseEmitter emitter, EmployeeChangeDTO change) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(change.getSequenceNumber()))
+                    .name("change")
+                    .data(change, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
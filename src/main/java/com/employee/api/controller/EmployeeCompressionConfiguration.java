@@ -0,0 +1,29 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.FindEmployeesVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+class EmployeeCompressionConfiguration {
+
+    // Uses the container's compression threshold, so both paths agree on what is worth compressing.
+    @Bean
+    @ConditionalOnExpression("${employee.compression.cache-size:8} > 0")
+    FilterRegistrationBean<CompressedEmployeesFilter> compressedEmployeesFilter(
+            FindEmployeesVersion findEmployeesVersion,
+            MeterRegistry meterRegistry,
+            @Value("${employee.compression.cache-size:8}") int cacheSize,
+            @Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize
+    ) {
+        FilterRegistrationBean<CompressedEmployeesFilter> registration = new FilterRegistrationBean<>(
+                new CompressedEmployeesFilter(findEmployeesVersion, cacheSize, (int) minResponseSize.toBytes(), meterRegistry));
+        registration.addUrlPatterns("/api/employees");
+        return registration;
+    }
+}
@@ -1,13 +1,19 @@
 package com.employee.api.controller;
 
 import com.employee.api.behavior.*;
+import com.employee.api.model.EmployeeCreationDTO;
 import com.employee.api.model.EmployeeDTO;
+import com.employee.api.model.EmployeePageDTO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 @CrossOrigin(origins = "http://localhost:4200")
 @RestController
@@ -15,53 +21,172 @@ public class EmployeeController {
 
     private final CreateEmployee createEmployee;
     private final FindEmployee findEmployee;
+    private final FindEmployeeVersion findEmployeeVersion;
     private final FindEmployees findEmployees;
+    private final FindEmployeesVersion findEmployeesVersion;
+    private final FindEmployeesPage findEmployeesPage;
+    private final SearchEmployees searchEmployees;
     private final UpdateEmployee updateEmployee;
     private final DeleteEmployee deleteEmployee;
+    private final Optional<EnqueueEmployee> enqueueEmployee;
 
     @Autowired
     public EmployeeController(
             CreateEmployee createEmployee,
             FindEmployee findEmployee,
+            FindEmployeeVersion findEmployeeVersion,
             FindEmployees findEmployees,
+            FindEmployeesVersion findEmployeesVersion,
+            FindEmployeesPage findEmployeesPage,
+            SearchEmployees searchEmployees,
             UpdateEmployee updateEmployee,
-            DeleteEmployee deleteEmployee
+            DeleteEmployee deleteEmployee,
+            Optional<EnqueueEmployee> enqueueEmployee
     ) {
         this.createEmployee = createEmployee;
         this.findEmployee = findEmployee;
+        this.findEmployeeVersion = findEmployeeVersion;
         this.findEmployees = findEmployees;
+        this.findEmployeesVersion = findEmployeesVersion;
+        this.findEmployeesPage = findEmployeesPage;
+        this.searchEmployees = searchEmployees;
         this.updateEmployee = updateEmployee;
         this.deleteEmployee = deleteEmployee;
+        this.enqueueEmployee = enqueueEmployee;
     }
 
     @PostMapping("/api/employees")
     public ResponseEntity<?> createEmployee(@RequestBody EmployeeDTO employeeDTO) {
+        if (enqueueEmployee.isPresent()) {
+            return enqueueEmployee(employeeDTO);
+        }
         createEmployee.createEmployee(employeeDTO);
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
 
+    // Write-behind mode: the employee is only queued, and the creation it gets back
+    // reports when it has been written.
+    private ResponseEntity<?> enqueueEmployee(EmployeeDTO employeeDTO) {
+        Optional<EmployeeCreationDTO> creation;
+        try {
+            creation = enqueueEmployee.get().enqueueEmployee(employeeDTO);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (creation.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build();
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/employees/creations/" + creation.get().getCreationId()))
+                .body(creation.get());
+    }
+
     @GetMapping("/api/employees")
-    public ResponseEntity<List<EmployeeDTO>> findEmployees() {
+    public ResponseEntity<List<EmployeeDTO>> findEmployees(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // Read before the employees, so a write in between can only make the tag older than the data.
+        String etag = toETag(findEmployeesVersion.findEmployeesVersion());
+        if (anyMatches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<EmployeeDTO> employees = findEmployees.findEmployees();
-        return new ResponseEntity<>(employees, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag).body(employees);
+    }
+
+    @GetMapping(value = "/api/employees", params = "limit")
+    public ResponseEntity<EmployeePageDTO> findEmployeesPage(
+            @RequestParam(value = "after", required = false) Integer after,
+            @RequestParam("limit") int limit
+    ) {
+        EmployeePageDTO page = findEmployeesPage.findEmployeesPage(after, limit);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    @GetMapping("/api/employees/search")
+    public ResponseEntity<EmployeePageDTO> searchEmployees(
+            @RequestParam("q") String query,
+            @RequestParam(value = "after", required = false) Integer after,
+            @RequestParam(value = "limit", defaultValue = "20") int limit
+    ) {
+        if (query.isBlank()) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        EmployeePageDTO page = searchEmployees.searchEmployees(query, after, limit);
+        return new ResponseEntity<>(page, HttpStatus.OK);
     }
 
     @GetMapping("/api/employees/{employeeId}")
-    public ResponseEntity<EmployeeDTO> findEmployee(@PathVariable("employeeId") int employeeId) {
+    public ResponseEntity<EmployeeDTO> findEmployee(
+            @PathVariable("employeeId") int employeeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        if (ifNoneMatch != null) {
+            Optional<Long> version = findEmployeeVersion.findEmployeeVersion(employeeId);
+            if (version.isPresent() && anyMatches(ifNoneMatch, toETag(version.get()))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(toETag(version.get())).build();
+            }
+        }
         EmployeeDTO employeeDTO = findEmployee.findEmployee(employeeId);
-        return new ResponseEntity<>(employeeDTO, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(toETag(employeeDTO.getVersion())).body(employeeDTO);
     }
 
     @PutMapping("/api/employees/{employeeId}")
-    public ResponseEntity<EmployeeDTO> updateEmployee(@PathVariable int employeeId, @RequestBody EmployeeDTO employeeDTO) {
-        updateEmployee.updateEmployee(employeeId, employeeDTO);
+    public ResponseEntity<EmployeeDTO> updateEmployee(
+            @PathVariable int employeeId,
+            @RequestBody EmployeeDTO employeeDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        if (ifMatch != null && !ifMatch.trim().equals("*")) {
+            Long version = parseETag(ifMatch);
+            if (version == null) {
+                return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+            }
+            employeeDTO.setVersion(version);
+        }
+        try {
+            updateEmployee.updateEmployee(employeeId, employeeDTO);
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT);
+        }
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
     @DeleteMapping("/api/employees/{employeeID}")
     public ResponseEntity<?> deleteEmployee(@PathVariable("employeeID") int employeeID) {
-        deleteEmployee.deleteEmployee(employeeID);
-        return new ResponseEntity<>(HttpStatus.OK);
+        boolean deleted = deleteEmployee.deleteEmployee(employeeID);
+        return new ResponseEntity<>(deleted ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND);
+    }
+
+    static String toETag(Object version) {
+        return "\"" + version + "\"";
+    }
+
+    // If-None-Match compares weakly, so a W/ prefix on the client's tag is ignored.
+    static boolean anyMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Match compares strongly, so only a single unprefixed version tag is accepted.
+    static Long parseETag(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return null;
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
 }
@@ -0,0 +1,31 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.FindEmployeeCreation;
+import com.employee.api.model.EmployeeCreationDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Only present in write-behind mode, where POST /api/employees answers 202 with a link here.
+@CrossOrigin(origins = "http://localhost:4200")
+@RestController
+@ConditionalOnProperty(name = "employee.create.async.enabled", havingValue = "true")
+public class EmployeeCreationController {
+
+    private final FindEmployeeCreation findEmployeeCreation;
+
+    @Autowired
+    public EmployeeCreationController(FindEmployeeCreation findEmployeeCreation) {
+        this.findEmployeeCreation = findEmployeeCreation;
+    }
+
+    @GetMapping("/api/employees/creations/{creationId}")
+    public ResponseEntity<EmployeeCreationDTO> findEmployeeCreation(@PathVariable("creationId") String creationId) {
+        return findEmployeeCreation.findEmployeeCreation(creationId)
+                .map(creation -> new ResponseEntity<>(creation, HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+}
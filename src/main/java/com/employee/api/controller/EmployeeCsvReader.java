@@ -0,0 +1,181 @@
+package com.employee.api.controller;
+
+import com.employee.api.model.EmployeeDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads employees from RFC 4180 CSV one record at a time, in the layout the
+ * export writes: a header row, then one employee per record, with notes
+ * separated by line breaks inside one quoted field. Every line of that
+ * field is read as a note of its own, so a note that itself contains a
+ * line break comes back as several notes; use NDJSON to round-trip those.
+ *
+ * Columns are found by their header name, so their order does not matter
+ * and unknown columns are ignored, as is {@code employeeID}: ids are
+ * assigned on import. A record that cannot be read as an employee makes
+ * {@link #next()} throw {@link IllegalArgumentException}; reading carries
+ * on with the record after it.
+ */
+class EmployeeCsvReader implements Iterator<EmployeeDTO> {
+
+    // Bounds the memory an unterminated quote can take before the rest of the file is given up on.
+    static final int MAX_RECORD_CHARS = 1 << 20;
+
+    private final Reader reader;
+    private final int columns;
+    private final int firstName;
+    private final int lastName;
+    private final int emailAddress;
+    private final int notes;
+
+    private int pushedBack = -1;
+    private List<String> record;
+    private String recordProblem;
+    private boolean truncated;
+
+    EmployeeCsvReader(Reader reader) throws IOException {
+        this.reader = reader;
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("The CSV has no header row");
+        }
+        List<String> names = new ArrayList<>(header.size());
+        for (String name : header) {
+            names.add(name.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT));
+        }
+        this.columns = names.size();
+        this.firstName = names.indexOf("firstname");
+        this.lastName = names.indexOf("lastname");
+        this.emailAddress = names.indexOf("emailaddress");
+        this.notes = names.indexOf("notes");
+        if (firstName < 0 || lastName < 0 || emailAddress < 0) {
+            throw new IllegalArgumentException("The CSV header must name the firstName, lastName and emailAddress columns");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (record == null && !truncated) {
+                List<String> next = readRecord();
+                if (next == null) {
+                    return false;
+                }
+                if (next.size() > 1 || !next.get(0).isEmpty() || recordProblem != null) {
+                    record = next;
+                }
+            }
+            return record != null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public EmployeeDTO next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<String> fields = record;
+        String problem = recordProblem;
+        record = null;
+        recordProblem = null;
+        if (problem != null) {
+            throw new IllegalArgumentException(problem);
+        }
+        if (fields.size() != columns) {
+            throw new IllegalArgumentException("Expected " + columns + " fields but found " + fields.size());
+        }
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName(field(fields, firstName));
+        employeeDTO.setLastName(field(fields, lastName));
+        employeeDTO.setEmailAddress(field(fields, emailAddress));
+        String noteField = field(fields, notes);
+        employeeDTO.setNotes(noteField == null
+                ? new ArrayList<>()
+                : new ArrayList<>(Arrays.asList(noteField.split("\r\n|\n", -1))));
+        return employeeDTO;
+    }
+
+    // Empty fields are read as missing values, which is how the export writes nulls.
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || fields.get(column).isEmpty()) {
+            return null;
+        }
+        return fields.get(column);
+    }
+
+    // Returns null at the end of the input. A record that is cut short is still returned,
+    // with recordProblem saying why.
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>(columns > 0 ? columns : 8);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int chars = 0;
+        while (true) {
+            if (c == -1) {
+                if (quoted) {
+                    recordProblem = "Unterminated quoted field";
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            if (++chars > MAX_RECORD_CHARS) {
+                recordProblem = "Record longer than " + MAX_RECORD_CHARS + " characters";
+                truncated = true;
+                fields.add(field.toString());
+                return fields;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int d = read();
+                    if (d != '"') {
+                        quoted = false;
+                        c = d;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int d = read();
+                    if (d != '\n') {
+                        pushedBack = d;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -1) {
+            int c = pushedBack;
+            pushedBack = -1;
+            return c;
+        }
+        return reader.read();
+    }
+}
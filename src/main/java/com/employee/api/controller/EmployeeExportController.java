@@ -0,0 +1,142 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.ExportEmployees;
+import com.employee.api.model.EmployeeDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@CrossOrigin(origins = "http://localhost:4200")
+@RestController
+public class EmployeeExportController {
+
+    static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    // Flush after the first employee so clients see bytes immediately, then every FLUSH_EVERY employees.
+    static final int FLUSH_EVERY = 500;
+
+    private final ExportEmployees exportEmployees;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter employeeWriter;
+
+    @Autowired
+    public EmployeeExportController(ExportEmployees exportEmployees, ObjectMapper objectMapper) {
+        this.exportEmployees = exportEmployees;
+        this.objectMapper = objectMapper;
+        this.employeeWriter = objectMapper
+                .writerFor(EmployeeDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @GetMapping("/api/employees/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format
+    ) {
+        if ("csv".equalsIgnoreCase(format)) {
+            return export(TEXT_CSV, "employees.csv", this::writeCsv);
+        }
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return export(MediaType.APPLICATION_NDJSON, "employees.ndjson", this::writeNdjson);
+        }
+        return ResponseEntity.badRequest().build();
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(MediaType contentType, String fileName, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    private void writeNdjson(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        int[] written = {0};
+        try {
+            exportEmployees.exportEmployees(employee -> {
+                try {
+                    employeeWriter.writeValue(generator, employee);
+                    generator.writeRaw('\n');
+                    flushOnCadence(generator::flush, ++written[0]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("employeeID,firstName,lastName,emailAddress,notes\r\n");
+        int[] written = {0};
+        try {
+            exportEmployees.exportEmployees(employee -> {
+                try {
+                    writeCsvRow(writer, employee);
+                    flushOnCadence(writer::flush, ++written[0]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, EmployeeDTO employee) throws IOException {
+        writer.write(String.valueOf(employee.getEmployeeID()));
+        writer.write(',');
+        writer.write(csvField(employee.getFirstName()));
+        writer.write(',');
+        writer.write(csvField(employee.getLastName()));
+        writer.write(',');
+        writer.write(csvField(employee.getEmailAddress()));
+        writer.write(',');
+        List<String> notes = employee.getNotes();
+        writer.write(csvField(notes == null ? null : String.join("\n", notes)));
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks, doubling embedded quotes.
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void flushOnCadence(Flusher flusher, int written) throws IOException {
+        if (written == 1 || written % FLUSH_EVERY == 0) {
+            flusher.flush();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Flusher {
+        void flush() throws IOException;
+    }
+}
@@ -0,0 +1,32 @@
+package com.employee.api.controller;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+@Configuration
+class EmployeeImportConfiguration {
+
+    static final String IMPORT_PATH = "/api/employees/import";
+
+    // The container applies one multipart limit per servlet, so the import gets a DispatcherServlet
+    // of its own over the same context. Its uploads may be up to employee.import.max-file-size and
+    // are spooled straight to disk; every other endpoint keeps spring.servlet.multipart.*.
+    @Bean
+    ServletRegistrationBean<DispatcherServlet> employeeImportServlet(
+            WebApplicationContext applicationContext,
+            @Value("${employee.import.max-file-size:1GB}") DataSize maxFileSize
+    ) {
+        ServletRegistrationBean<DispatcherServlet> registration =
+                new ServletRegistrationBean<>(new DispatcherServlet(applicationContext), IMPORT_PATH);
+        registration.setName("employeeImportServlet");
+        registration.setMultipartConfig(new MultipartConfigElement(
+                "", maxFileSize.toBytes(), maxFileSize.toBytes(), 0));
+        return registration;
+    }
+}
@@ -0,0 +1,131 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.ImportEmployees;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.api.model.EmployeeImportDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+
+@CrossOrigin(origins = "http://localhost:4200")
+@RestController
+public class EmployeeImportController {
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ImportEmployees importEmployees;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader employeeReader;
+
+    @Autowired
+    public EmployeeImportController(ImportEmployees importEmployees, ObjectMapper objectMapper) {
+        this.importEmployees = importEmployees;
+        this.objectMapper = objectMapper;
+        this.employeeReader = objectMapper.readerFor(EmployeeDTO.class);
+    }
+
+    // The body is parsed as it arrives, one employee at a time, while progress is written back.
+    @PostMapping(value = "/api/employees/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> importEmployees(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws IOException {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        return importFrom(body, charset, mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE)));
+    }
+
+    // The container spools uploaded files to disk, so a multipart upload is read back from there
+    // and the heap holds no more of it than of a raw body.
+    @PostMapping(value = "/api/employees/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StreamingResponseBody> importEmployeesFile(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(value = "format", required = false) String format
+    ) throws IOException {
+        Boolean csv = isCsv(format, file.getContentType(), file.getOriginalFilename());
+        if (csv == null) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        }
+        return importFrom(file.getInputStream(), StandardCharsets.UTF_8, csv);
+    }
+
+    // The header, or for NDJSON nothing at all, is read before answering, so a file that cannot
+    // be imported gets a 400 rather than a stream of progress.
+    private ResponseEntity<StreamingResponseBody> importFrom(InputStream in, Charset charset, boolean csv) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset), BUFFER_SIZE);
+        Iterator<EmployeeDTO> employees;
+        try {
+            employees = csv ? new EmployeeCsvReader(reader) : new EmployeeNdjsonReader(reader, employeeReader);
+        } catch (IllegalArgumentException e) {
+            reader.close();
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody progress = out -> {
+            try (reader) {
+                importEmployees.importEmployees(employees, update -> writeLine(out, update));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(progress);
+    }
+
+    private void writeLine(OutputStream out, EmployeeImportDTO update) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(update));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // An explicit format wins, then the part's content type, then the file name's extension.
+    static Boolean isCsv(String format, String contentType, String fileName) {
+        if (format != null) {
+            if ("csv".equalsIgnoreCase(format)) {
+                return true;
+            }
+            return "ndjson".equalsIgnoreCase(format) ? false : null;
+        }
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))) {
+                return true;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+                return false;
+            }
+        }
+        String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return true;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return false;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.employee.api.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Boot puts HttpMessageConverter beans ahead of its defaults, so when enabled this
+// converter writes employees and Jackson still handles every other type.
+@Configuration
+class EmployeeJsonConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "employee.json.direct-writer.enabled", havingValue = "true")
+    EmployeeJsonHttpMessageConverter employeeJsonHttpMessageConverter() {
+        return new EmployeeJsonHttpMessageConverter();
+    }
+}
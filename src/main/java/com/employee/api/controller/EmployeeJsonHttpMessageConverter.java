@@ -0,0 +1,281 @@
+package com.employee.api.controller;
+
+import com.employee.api.model.EmployeeDTO;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes {@link EmployeeDTO}s, and collections of them, as JSON without
+ * going through Jackson's reflective serializers.
+ *
+ * The output is byte for byte what Spring's default ObjectMapper writes:
+ * fields in declaration order, nulls written as {@code null}, quotes,
+ * backslashes and control characters escaped, and characters outside the
+ * Basic Multilingual Plane written as escaped surrogate pairs. Field names are
+ * encoded once up front, and each response is encoded into a pooled
+ * buffer that is handed to the servlet output stream as it fills.
+ * Reading is left to Jackson.
+ */
+public class EmployeeJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    static final int BUFFER_SIZE = 8 * 1024;
+    static final int POOLED_BUFFERS = 64;
+
+    private static final byte[] EMPLOYEE_ID = ascii("{\"employeeID\":");
+    private static final byte[] FIRST_NAME = ascii(",\"firstName\":");
+    private static final byte[] LAST_NAME = ascii(",\"lastName\":");
+    private static final byte[] EMAIL_ADDRESS = ascii(",\"emailAddress\":");
+    private static final byte[] NOTES = ascii(",\"notes\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+
+    // For each ASCII character: 0 to write it as is, 'u' for a six-character unicode escape, otherwise the short escape letter.
+    private static final byte[] ESCAPES = new byte[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPES[c] = 'u';
+        }
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+    }
+
+    private final BlockingQueue<byte[]> buffers = new ArrayBlockingQueue<>(POOLED_BUFFERS);
+
+    public EmployeeJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == EmployeeDTO.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isEmployeeType(type != null ? type : clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Employees are only written by this converter", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Employees are only written by this converter", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (value instanceof Collection<?> employees) {
+            writeEmployees(employees, outputMessage.getBody());
+        } else {
+            writeEmployees(List.of(value), outputMessage.getBody(), false);
+        }
+    }
+
+    public void writeEmployees(Collection<?> employees, OutputStream out) throws IOException {
+        writeEmployees(employees, out, true);
+    }
+
+    private void writeEmployees(Collection<?> employees, OutputStream out, boolean asArray) throws IOException {
+        byte[] buffer = buffers.poll();
+        JsonOutput json = new JsonOutput(buffer != null ? buffer : new byte[BUFFER_SIZE], out);
+        try {
+            if (asArray) {
+                json.writeByte('[');
+            }
+            boolean first = true;
+            for (Object employee : employees) {
+                if (!first) {
+                    json.writeByte(',');
+                }
+                writeEmployee(json, (EmployeeDTO) employee);
+                first = false;
+            }
+            if (asArray) {
+                json.writeByte(']');
+            }
+            json.flush();
+        } finally {
+            buffers.offer(json.buffer);
+        }
+    }
+
+    private static void writeEmployee(JsonOutput json, EmployeeDTO employee) throws IOException {
+        if (employee == null) {
+            json.writeBytes(NULL);
+            return;
+        }
+        json.writeBytes(EMPLOYEE_ID);
+        if (employee.getEmployeeID() == null) {
+            json.writeBytes(NULL);
+        } else {
+            json.writeInt(employee.getEmployeeID());
+        }
+        json.writeBytes(FIRST_NAME);
+        json.writeString(employee.getFirstName());
+        json.writeBytes(LAST_NAME);
+        json.writeString(employee.getLastName());
+        json.writeBytes(EMAIL_ADDRESS);
+        json.writeString(employee.getEmailAddress());
+        json.writeBytes(NOTES);
+        List<String> notes = employee.getNotes();
+        if (notes == null) {
+            json.writeBytes(NULL);
+        } else {
+            json.writeByte('[');
+            for (int i = 0; i < notes.size(); i++) {
+                if (i > 0) {
+                    json.writeByte(',');
+                }
+                json.writeString(notes.get(i));
+            }
+            json.writeByte(']');
+        }
+        json.writeByte('}');
+    }
+
+    private static boolean isEmployeeType(Type type) {
+        if (type == EmployeeDTO.class) {
+            return true;
+        }
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw
+                && Collection.class.isAssignableFrom(raw)
+                && parameterized.getActualTypeArguments()[0] == EmployeeDTO.class;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class JsonOutput {
+
+        // Longest encoding of a single char: a six-character unicode escape.
+        private static final int MAX_CHAR_BYTES = 6;
+
+        private final byte[] buffer;
+        private final OutputStream out;
+        private int position;
+
+        private JsonOutput(byte[] buffer, OutputStream out) {
+            this.buffer = buffer;
+            this.out = out;
+        }
+
+        private void writeByte(char c) throws IOException {
+            ensureCapacity(1);
+            buffer[position++] = (byte) c;
+        }
+
+        private void writeBytes(byte[] bytes) throws IOException {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeInt(int value) throws IOException {
+            ensureCapacity(11);
+            long remaining = value;
+            if (remaining < 0) {
+                buffer[position++] = '-';
+                remaining = -remaining;
+            }
+            int start = position;
+            do {
+                buffer[position++] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            } while (remaining > 0);
+            for (int left = start, right = position - 1; left < right; left++, right--) {
+                byte digit = buffer[left];
+                buffer[left] = buffer[right];
+                buffer[right] = digit;
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeBytes(NULL);
+                return;
+            }
+            writeByte('"');
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                ensureCapacity(MAX_CHAR_BYTES);
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    byte escape = ESCAPES[c];
+                    if (escape == 0) {
+                        buffer[position++] = (byte) c;
+                    } else if (escape == 'u') {
+                        writeUnicodeEscape(c);
+                    } else {
+                        buffer[position++] = '\\';
+                        buffer[position++] = escape;
+                    }
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // Jackson escapes each half of a surrogate pair rather than writing a four-byte sequence.
+                    writeUnicodeEscape(c);
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            writeByte('"');
+        }
+
+        private void writeUnicodeEscape(char c) {
+            buffer[position++] = '\\';
+            buffer[position++] = 'u';
+            buffer[position++] = HEX[(c >> 12) & 0xF];
+            buffer[position++] = HEX[(c >> 8) & 0xF];
+            buffer[position++] = HEX[(c >> 4) & 0xF];
+            buffer[position++] = HEX[c & 0xF];
+        }
+
+        private void ensureCapacity(int bytes) throws IOException {
+            if (position + bytes > buffer.length) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
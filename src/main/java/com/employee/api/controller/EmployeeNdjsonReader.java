@@ -0,0 +1,105 @@
+package com.employee.api.controller;
+
+import com.employee.api.model.EmployeeDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads employees from newline-delimited JSON, one line at a time. Blank
+ * lines are skipped, and {@code employeeID} and {@code version} are
+ * dropped, so a file written by the export can be imported as it is. A
+ * line that is not an employee, or that is longer than
+ * {@link #MAX_LINE_CHARS}, makes {@link #next()} throw
+ * {@link IllegalArgumentException}; reading carries on with the next line.
+ */
+class EmployeeNdjsonReader implements Iterator<EmployeeDTO> {
+
+    // The same bound as a CSV record: the rest of an oversized line is skipped, never held.
+    static final int MAX_LINE_CHARS = EmployeeCsvReader.MAX_RECORD_CHARS;
+
+    private final BufferedReader reader;
+    private final ObjectReader employeeReader;
+    private final StringBuilder buffer = new StringBuilder();
+    private String line;
+    private String lineProblem;
+
+    EmployeeNdjsonReader(BufferedReader reader, ObjectReader employeeReader) {
+        this.reader = reader;
+        this.employeeReader = employeeReader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (line == null) {
+                String next = readLine();
+                if (next == null) {
+                    return false;
+                }
+                if (!next.isBlank() || lineProblem != null) {
+                    line = next;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public EmployeeDTO next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String json = line;
+        String problem = lineProblem;
+        line = null;
+        lineProblem = null;
+        if (problem != null) {
+            throw new IllegalArgumentException(problem);
+        }
+        EmployeeDTO employeeDTO;
+        try {
+            employeeDTO = employeeReader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage());
+        }
+        if (employeeDTO == null) {
+            throw new IllegalArgumentException("Expected an employee but found null");
+        }
+        employeeDTO.setEmployeeID(null);
+        employeeDTO.setVersion(null);
+        return employeeDTO;
+    }
+
+    // Returns null at the end of the input. A line over MAX_LINE_CHARS is read to its end but
+    // returned empty, with lineProblem saying why.
+    private String readLine() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        buffer.setLength(0);
+        int chars = 0;
+        while (c != -1 && c != '\n') {
+            if (++chars > MAX_LINE_CHARS) {
+                lineProblem = "Line longer than " + MAX_LINE_CHARS + " characters";
+                buffer.setLength(0);
+            } else {
+                buffer.append((char) c);
+            }
+            c = reader.read();
+        }
+        int end = buffer.length();
+        if (end > 0 && buffer.charAt(end - 1) == '\r') {
+            buffer.setLength(end - 1);
+        }
+        return buffer.toString();
+    }
+}
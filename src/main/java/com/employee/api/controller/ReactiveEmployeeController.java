@@ -0,0 +1,41 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.ReactiveFindEmployee;
+import com.employee.api.behavior.ReactiveFindEmployees;
+import com.employee.api.model.EmployeeDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@CrossOrigin(origins = "http://localhost:4200")
+@RestController
+public class ReactiveEmployeeController {
+
+    private final ReactiveFindEmployees findEmployees;
+    private final ReactiveFindEmployee findEmployee;
+
+    @Autowired
+    public ReactiveEmployeeController(
+            ReactiveFindEmployees findEmployees,
+            ReactiveFindEmployee findEmployee
+    ) {
+        this.findEmployees = findEmployees;
+        this.findEmployee = findEmployee;
+    }
+
+    @GetMapping(value = "/api/reactive/employees", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EmployeeDTO> findEmployees() {
+        return findEmployees.findEmployees();
+    }
+
+    @GetMapping(value = "/api/reactive/employees/{employeeId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<EmployeeDTO>> findEmployee(@PathVariable("employeeId") int employeeId) {
+        return findEmployee.findEmployee(employeeId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+}
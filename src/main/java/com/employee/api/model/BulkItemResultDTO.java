@@ -0,0 +1,38 @@
+package com.employee.api.model;
+
+import java.io.Serializable;
+
+public class BulkItemResultDTO implements Serializable {
+
+    private int index;
+    private Integer employeeID;
+    private BulkItemStatus status;
+    private String message;
+
+    public BulkItemResultDTO() {
+    }
+
+    public BulkItemResultDTO(int index, Integer employeeID, BulkItemStatus status, String message) {
+        this.index = index;
+        this.employeeID = employeeID;
+        this.status = status;
+        this.message = message;
+    }
+
+
+    public int getIndex() { return index; }
+
+    public void setIndex(int index) { this.index = index; }
+
+    public Integer getEmployeeID() { return employeeID; }
+
+    public void setEmployeeID(Integer employeeID) { this.employeeID = employeeID; }
+
+    public BulkItemStatus getStatus() { return status; }
+
+    public void setStatus(BulkItemStatus status) { this.status = status; }
+
+    public String getMessage() { return message; }
+
+    public void setMessage(String message) { this.message = message; }
+}
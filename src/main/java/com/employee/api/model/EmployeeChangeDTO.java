@@ -0,0 +1,29 @@
+package com.employee.api.model;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+
+public class EmployeeChangeDTO implements Serializable {
+
+    private long sequenceNumber;
+    private Integer employeeID;
+    private EmployeeChangeType changeType;
+    private OffsetDateTime changedAt;
+
+
+    public long getSequenceNumber() { return sequenceNumber; }
+
+    public void setSequenceNumber(long sequenceNumber) { this.sequenceNumber = sequenceNumber; }
+
+    public Integer getEmployeeID() { return employeeID; }
+
+    public void setEmployeeID(Integer employeeID) { this.employeeID = employeeID; }
+
+    public EmployeeChangeType getChangeType() { return changeType; }
+
+    public void setChangeType(EmployeeChangeType changeType) { this.changeType = changeType; }
+
+    public OffsetDateTime getChangedAt() { return changedAt; }
+
+    public void setChangedAt(OffsetDateTime changedAt) { this.changedAt = changedAt; }
+}
@@ -0,0 +1,7 @@
+package com.employee.api.model;
+
+public enum EmployeeChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
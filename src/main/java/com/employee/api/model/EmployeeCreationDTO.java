@@ -0,0 +1,38 @@
+package com.employee.api.model;
+
+import java.io.Serializable;
+
+public class EmployeeCreationDTO implements Serializable {
+
+    private String creationId;
+    private EmployeeCreationStatus status;
+    private Integer employeeID;
+    private String message;
+
+    public EmployeeCreationDTO() {
+    }
+
+    public EmployeeCreationDTO(String creationId, EmployeeCreationStatus status, Integer employeeID, String message) {
+        this.creationId = creationId;
+        this.status = status;
+        this.employeeID = employeeID;
+        this.message = message;
+    }
+
+
+    public String getCreationId() { return creationId; }
+
+    public void setCreationId(String creationId) { this.creationId = creationId; }
+
+    public EmployeeCreationStatus getStatus() { return status; }
+
+    public void setStatus(EmployeeCreationStatus status) { this.status = status; }
+
+    public Integer getEmployeeID() { return employeeID; }
+
+    public void setEmployeeID(Integer employeeID) { this.employeeID = employeeID; }
+
+    public String getMessage() { return message; }
+
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,7 @@
+package com.employee.api.model;
+
+public enum EmployeeCreationStatus {
+    QUEUED,
+    CREATED,
+    FAILED
+}
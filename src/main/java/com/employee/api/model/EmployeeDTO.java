@@ -1,5 +1,7 @@
 package com.employee.api.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.io.Serializable;
 import java.util.List;
 
@@ -11,6 +13,10 @@ public class EmployeeDTO implements Serializable {
     private String emailAddress;
     private List<String> notes;
 
+    // Travels in the ETag and If-Match headers rather than in the body.
+    @JsonIgnore
+    private Long version;
+
 
     public Integer getEmployeeID() { return employeeID; }
 
@@ -41,4 +47,8 @@ public class EmployeeDTO implements Serializable {
     public List<String> getNotes() { return notes; }
 
     public void setNotes(List<String> notes) { this.notes = notes; }
+
+    public Long getVersion() { return version; }
+
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -0,0 +1,45 @@
+package com.employee.api.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class EmployeeImportDTO implements Serializable {
+
+    private long rowsRead;
+    private long imported;
+    private long invalid;
+    private boolean complete;
+    private List<BulkItemResultDTO> errors;
+
+    public EmployeeImportDTO() {
+    }
+
+    public EmployeeImportDTO(long rowsRead, long imported, long invalid, boolean complete, List<BulkItemResultDTO> errors) {
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.invalid = invalid;
+        this.complete = complete;
+        this.errors = errors;
+    }
+
+
+    public long getRowsRead() { return rowsRead; }
+
+    public void setRowsRead(long rowsRead) { this.rowsRead = rowsRead; }
+
+    public long getImported() { return imported; }
+
+    public void setImported(long imported) { this.imported = imported; }
+
+    public long getInvalid() { return invalid; }
+
+    public void setInvalid(long invalid) { this.invalid = invalid; }
+
+    public boolean isComplete() { return complete; }
+
+    public void setComplete(boolean complete) { this.complete = complete; }
+
+    public List<BulkItemResultDTO> getErrors() { return errors; }
+
+    public void setErrors(List<BulkItemResultDTO> errors) { this.errors = errors; }
+}
@@ -0,0 +1,19 @@
+package com.employee.api.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class EmployeePageDTO implements Serializable {
+
+    private List<EmployeeDTO> employees;
+    private Integer nextCursor;
+
+
+    public List<EmployeeDTO> getEmployees() { return employees; }
+
+    public void setEmployees(List<EmployeeDTO> employees) { this.employees = employees; }
+
+    public Integer getNextCursor() { return nextCursor; }
+
+    public void setNextCursor(Integer nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -1,15 +1,21 @@
 package com.employee.internal;
 
-import javax.persistence.*;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "EMPLOYEE")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfiguration.EMPLOYEE_REGION)
 public class Employee {
 
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator = "employeeSequence")
+    @SequenceGenerator(name = "employeeSequence", sequenceName = "EMPLOYEE_SEQ", allocationSize = 50)
     @Column(name = "EMPLOYEE_ID")
     private Integer employeeID;
 
@@ -22,7 +28,13 @@ public class Employee {
     @Column(name = "EMAIL_ADDRESS")
     private String emailAddress;
 
+    @Version
+    @Column(name = "VERSION")
+    private long version;
+
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "employee", orphanRemoval = true)
+    @OrderBy("noteId")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfiguration.EMPLOYEE_NOTES_REGION)
     private List<Note> notes = new ArrayList<>();
 
     public Integer getEmployeeId() {
@@ -55,6 +67,10 @@ public class Employee {
         this.emailAddress = emailAddress;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public List<Note> getNotes() {
         return notes;
     }
@@ -0,0 +1,225 @@
+package com.employee.internal;
+
+import com.employee.api.behavior.BulkCreateEmployees;
+import com.employee.api.behavior.BulkDeleteEmployees;
+import com.employee.api.behavior.BulkUpdateEmployees;
+import com.employee.api.model.BulkItemResultDTO;
+import com.employee.api.model.BulkItemStatus;
+import com.employee.api.model.EmployeeChangeType;
+import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class EmployeeBulkService implements
+        BulkCreateEmployees,
+        BulkUpdateEmployees,
+        BulkDeleteEmployees {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeCache employeeCache;
+    private final EmployeeChangeCounter employeeChangeCounter;
+    private final EmployeeChangeLog employeeChangeLog;
+    private final EntityManager entityManager;
+
+    EmployeeBulkService(
+            EmployeeRepository employeeRepository,
+            EmployeeMapper employeeMapper,
+            EmployeeCache employeeCache,
+            EmployeeChangeCounter employeeChangeCounter,
+            EmployeeChangeLog employeeChangeLog,
+            EntityManager entityManager
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.employeeCache = employeeCache;
+        this.employeeChangeCounter = employeeChangeCounter;
+        this.employeeChangeLog = employeeChangeLog;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "BulkCreateEmployees"})
+    @Transactional
+    public List<BulkItemResultDTO> createEmployees(List<EmployeeDTO> employeeDTOs) {
+        List<BulkItemResultDTO> results = new ArrayList<>(employeeDTOs.size());
+        List<Employee> employees = new ArrayList<>(CHUNK_SIZE);
+        List<BulkItemResultDTO> pending = new ArrayList<>(CHUNK_SIZE);
+
+        for (int index = 0; index < employeeDTOs.size(); index++) {
+            EmployeeDTO employeeDTO = employeeDTOs.get(index);
+            String problem = validate(employeeDTO);
+            if (problem == null && employeeDTO.getEmployeeID() != null) {
+                problem = "employeeID must not be set";
+            }
+            if (problem != null) {
+                results.add(invalid(index, employeeDTO, problem));
+                continue;
+            }
+
+            Employee employee = employeeMapper.toEntity(employeeDTO);
+            employeeRepository.save(employee);
+            employees.add(employee);
+
+            BulkItemResultDTO result = new BulkItemResultDTO(index, null, BulkItemStatus.CREATED, null);
+            pending.add(result);
+            results.add(result);
+
+            if (employees.size() == CHUNK_SIZE) {
+                flushCreated(employees, pending);
+            }
+        }
+        flushCreated(employees, pending);
+        employeeChangeLog.record(idsWithStatus(results, BulkItemStatus.CREATED), EmployeeChangeType.CREATED);
+        employeeChangeCounter.recordChange();
+        return results;
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "BulkUpdateEmployees"})
+    @Transactional
+    public List<BulkItemResultDTO> updateEmployees(List<EmployeeDTO> employeeDTOs) {
+        List<BulkItemResultDTO> results = new ArrayList<>(employeeDTOs.size());
+        List<Integer> changed = new ArrayList<>();
+
+        for (int start = 0; start < employeeDTOs.size(); start += CHUNK_SIZE) {
+            List<EmployeeDTO> chunk = employeeDTOs.subList(start, Math.min(start + CHUNK_SIZE, employeeDTOs.size()));
+            Set<Integer> employeeIds = chunk.stream()
+                    .filter(Objects::nonNull)
+                    .map(EmployeeDTO::getEmployeeID)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<Integer, Employee> existing = employeeIds.isEmpty()
+                    ? Map.of()
+                    : employeeRepository.findAllWithNotesByIdIn(employeeIds)
+                            .stream()
+                            .collect(Collectors.toMap(Employee::getEmployeeId, Function.identity()));
+
+            for (int offset = 0; offset < chunk.size(); offset++) {
+                int index = start + offset;
+                EmployeeDTO employeeDTO = chunk.get(offset);
+                String problem = validate(employeeDTO);
+                if (problem == null && employeeDTO.getEmployeeID() == null) {
+                    problem = "employeeID is required";
+                }
+                if (problem != null) {
+                    results.add(invalid(index, employeeDTO, problem));
+                } else if (!existing.containsKey(employeeDTO.getEmployeeID())) {
+                    results.add(new BulkItemResultDTO(index, employeeDTO.getEmployeeID(), BulkItemStatus.NOT_FOUND, null));
+                } else {
+                    Employee employee = existing.get(employeeDTO.getEmployeeID());
+                    EmployeeMapper.Update update = employeeMapper.updateEntity(employee, employeeDTO);
+                    if (update == EmployeeMapper.Update.NOTES_CHANGED) {
+                        entityManager.lock(employee, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+                    }
+                    if (update != EmployeeMapper.Update.UNCHANGED) {
+                        changed.add(employee.getEmployeeId());
+                    }
+                    results.add(new BulkItemResultDTO(index, employeeDTO.getEmployeeID(), BulkItemStatus.UPDATED, null));
+                }
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+            employeeCache.evictAfterCommit(employeeIds);
+        }
+        // Logged once at the end: the log's lock is held until commit, and taking it
+        // between chunks could deadlock against another batch's row locks.
+        employeeChangeLog.record(changed, EmployeeChangeType.UPDATED);
+        employeeChangeCounter.recordChange();
+        return results;
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "BulkDeleteEmployees"})
+    @Transactional
+    public List<BulkItemResultDTO> deleteEmployees(List<Integer> employeeIds) {
+        List<BulkItemResultDTO> results = new ArrayList<>(employeeIds.size());
+
+        for (int start = 0; start < employeeIds.size(); start += CHUNK_SIZE) {
+            List<Integer> chunk = employeeIds.subList(start, Math.min(start + CHUNK_SIZE, employeeIds.size()));
+            Set<Integer> requested = chunk.stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Set<Integer> existing = requested.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(employeeRepository.findExistingIds(requested));
+
+            if (!existing.isEmpty()) {
+                employeeRepository.deleteNotesByEmployeeIds(existing);
+                employeeRepository.deleteAllByIdInBatch(existing);
+            }
+
+            Set<Integer> deleted = new HashSet<>();
+            for (int offset = 0; offset < chunk.size(); offset++) {
+                int index = start + offset;
+                Integer employeeId = chunk.get(offset);
+                if (employeeId == null) {
+                    results.add(new BulkItemResultDTO(index, null, BulkItemStatus.INVALID, "employeeID is required"));
+                } else if (existing.contains(employeeId) && deleted.add(employeeId)) {
+                    results.add(new BulkItemResultDTO(index, employeeId, BulkItemStatus.DELETED, null));
+                } else {
+                    results.add(new BulkItemResultDTO(index, employeeId, BulkItemStatus.NOT_FOUND, null));
+                }
+            }
+            employeeCache.evictAfterCommit(requested);
+        }
+        employeeChangeLog.record(idsWithStatus(results, BulkItemStatus.DELETED), EmployeeChangeType.DELETED);
+        employeeChangeCounter.recordChange();
+        return results;
+    }
+
+    private void flushCreated(List<Employee> employees, List<BulkItemResultDTO> pending) {
+        entityManager.flush();
+        for (int i = 0; i < employees.size(); i++) {
+            pending.get(i).setEmployeeID(employees.get(i).getEmployeeId());
+        }
+        entityManager.clear();
+        employees.clear();
+        pending.clear();
+    }
+
+    private List<Integer> idsWithStatus(List<BulkItemResultDTO> results, BulkItemStatus status) {
+        return results.stream()
+                .filter(result -> result.getStatus() == status)
+                .map(BulkItemResultDTO::getEmployeeID)
+                .collect(Collectors.toList());
+    }
+
+    private BulkItemResultDTO invalid(int index, EmployeeDTO employeeDTO, String problem) {
+        Integer employeeId = employeeDTO == null ? null : employeeDTO.getEmployeeID();
+        return new BulkItemResultDTO(index, employeeId, BulkItemStatus.INVALID, problem);
+    }
+
+    static String validate(EmployeeDTO employeeDTO) {
+        if (employeeDTO == null) {
+            return "employee is required";
+        }
+        if (employeeDTO.getFirstName() == null) {
+            return "firstName is required";
+        }
+        if (employeeDTO.getLastName() == null) {
+            return "lastName is required";
+        }
+        if (employeeDTO.getEmailAddress() == null) {
+            return "emailAddress is required";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.employee.internal;
+
+import com.employee.api.model.EmployeeDTO;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface EmployeeCache {
+
+    Optional<EmployeeDTO> get(int employeeId);
+
+    // Taken before an employee is read from the database, and passed to put with what was read.
+    long stamp();
+
+    // Stores the employee unless it was evicted after stamp was taken: the row
+    // may have been read before the change that caused the eviction committed.
+    void put(int employeeId, EmployeeDTO employeeDTO, long stamp);
+
+    void evict(int employeeId);
+
+    default void evictAfterCommit(int employeeId) {
+        evictAfterCommit(List.of(employeeId));
+    }
+
+    // Evicts once the current transaction commits, or straight away outside one. Evicting
+    // before commit would let a concurrent miss read the row as it was and cache it.
+    default void evictAfterCommit(Collection<Integer> employeeIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Integer> committed = List.copyOf(employeeIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    committed.forEach(EmployeeCache.this::evict);
+                }
+            });
+        } else {
+            employeeIds.forEach(this::evict);
+        }
+    }
+
+    void clear();
+
+    long size();
+
+    long hitCount();
+
+    long missCount();
+
+    long evictionCount();
+}
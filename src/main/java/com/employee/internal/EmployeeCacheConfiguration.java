@@ -0,0 +1,19 @@
+package com.employee.internal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+class EmployeeCacheConfiguration {
+
+    @Bean
+    EmployeeCache employeeCache(
+            @Value("${employee.cache.max-size:10000}") int maxSize,
+            @Value("${employee.cache.ttl:5m}") Duration ttl
+    ) {
+        return new LruEmployeeCache(maxSize, ttl);
+    }
+}
@@ -0,0 +1,43 @@
+package com.employee.internal;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes the entry count of the {@link EmployeeCache} and its hits,
+ * misses and evictions. The counts are read from the cache at scrape
+ * time, so lookups pay nothing extra for them.
+ */
+@Component
+class EmployeeCacheMetrics implements MeterBinder {
+
+    private final EmployeeCache employeeCache;
+
+    EmployeeCacheMetrics(EmployeeCache employeeCache) {
+        this.employeeCache = employeeCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        requests(registry, "hit", EmployeeCache::hitCount);
+        requests(registry, "miss", EmployeeCache::missCount);
+        FunctionCounter.builder("employee.cache.evictions", employeeCache, EmployeeCache::evictionCount)
+                .description("Employees dropped from the cache for age or size")
+                .register(registry);
+        Gauge.builder("employee.cache.size", employeeCache, EmployeeCache::size)
+                .description("Employees held in the cache")
+                .register(registry);
+    }
+
+    private void requests(MeterRegistry registry, String result, ToLongFunction<EmployeeCache> count) {
+        FunctionCounter.builder("employee.cache.requests", employeeCache, cache -> count.applyAsLong(cache))
+                .description("Lookups in the employee cache")
+                .tag("result", result)
+                .register(registry);
+    }
+}
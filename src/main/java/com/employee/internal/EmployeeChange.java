@@ -0,0 +1,57 @@
+package com.employee.internal;
+
+import com.employee.api.model.EmployeeChangeType;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "EMPLOYEE_CHANGE")
+public class EmployeeChange {
+
+    @Id
+    @Column(name = "SEQUENCE_NUMBER")
+    private Long sequenceNumber;
+
+    @Column(name = "EMPLOYEE_ID")
+    private Integer employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "CHANGE_TYPE")
+    private EmployeeChangeType changeType;
+
+    @Column(name = "CHANGED_AT")
+    private OffsetDateTime changedAt;
+
+    public Long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(Long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Integer employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public EmployeeChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(EmployeeChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public OffsetDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(OffsetDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
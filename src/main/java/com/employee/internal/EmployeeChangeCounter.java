@@ -0,0 +1,36 @@
+package com.employee.internal;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Counts writes to the employee tables so the collection can be given an ETag without
+// reading it. The generation keeps tags from one run from matching those of the next.
+// The count lives in this process, so writes made by other instances are not seen.
+@Component
+class EmployeeChangeCounter {
+
+    private final String generation = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong changes = new AtomicLong();
+
+    String current() {
+        return generation + "-" + changes.get();
+    }
+
+    // Counted after commit: counting first would let a concurrent reader tag the
+    // data from before the write with the count from after it.
+    void recordChange() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changes.incrementAndGet();
+                }
+            });
+        } else {
+            changes.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.employee.internal;
+
+import com.employee.api.behavior.FindEmployeeChanges;
+import com.employee.api.behavior.StreamEmployeeChanges;
+import com.employee.api.model.EmployeeChangeDTO;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Service
+public class EmployeeChangeFeed implements FindEmployeeChanges, StreamEmployeeChanges {
+
+    static final int MAX_CHANGES = 1000;
+
+    private final EmployeeChangeRepository employeeChangeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean publishPending = new AtomicBoolean();
+
+    // One thread reads the log for every subscriber, so writers never wait on a stream.
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    EmployeeChangeFeed(EmployeeChangeRepository employeeChangeRepository, EmployeeMapper employeeMapper) {
+        this.employeeChangeRepository = employeeChangeRepository;
+        this.employeeMapper = employeeMapper;
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "FindEmployeeChanges"})
+    @Transactional(readOnly = true)
+    public List<EmployeeChangeDTO> findEmployeeChanges(long since, int limit) {
+        return employeeChangeRepository
+                .findAfter(since, PageRequest.of(0, Math.max(1, Math.min(limit, MAX_CHANGES))))
+                .stream()
+                .map(employeeMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Runnable streamEmployeeChanges(long since, Consumer<EmployeeChangeDTO> listener) {
+        Subscription subscription = new Subscription(since, listener);
+        subscriptions.add(subscription);
+        publish();
+        return () -> subscriptions.remove(subscription);
+    }
+
+    // Called after each committed write. Calls made while a run is already queued share it.
+    void publish() {
+        if (publishPending.compareAndSet(false, true)) {
+            publisher.execute(this::deliverAll);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        publisher.shutdownNow();
+    }
+
+    private void deliverAll() {
+        publishPending.set(false);
+        for (Subscription subscription : subscriptions) {
+            try {
+                deliver(subscription);
+            } catch (RuntimeException e) {
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+
+    // Each subscriber reads from its own position, so one that connects late, or falls
+    // behind, catches up from the log rather than from anything held in memory.
+    private void deliver(Subscription subscription) {
+        List<EmployeeChangeDTO> changes;
+        do {
+            changes = findEmployeeChanges(subscription.position, MAX_CHANGES);
+            for (EmployeeChangeDTO change : changes) {
+                subscription.listener.accept(change);
+                subscription.position = change.getSequenceNumber();
+            }
+        } while (changes.size() == MAX_CHANGES);
+    }
+
+    private static final class Subscription {
+
+        private final Consumer<EmployeeChangeDTO> listener;
+        private long position;
+
+        private Subscription(long position, Consumer<EmployeeChangeDTO> listener) {
+            this.position = position;
+            this.listener = listener;
+        }
+    }
+}
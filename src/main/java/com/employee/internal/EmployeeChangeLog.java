@@ -0,0 +1,64 @@
+package com.employee.internal;
+
+import com.employee.api.model.EmployeeChangeType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Appends to EMPLOYEE_CHANGE inside the caller's transaction. Call it last: allocating
+// sequence numbers locks the counter row until that transaction ends, which is what
+// keeps them in commit order.
+@Component
+class EmployeeChangeLog {
+
+    private final EmployeeChangeRepository employeeChangeRepository;
+    private final EmployeeChangeFeed employeeChangeFeed;
+    private final ObjectProvider<EmployeeReplica> employeeReplica;
+    private final EntityManager entityManager;
+
+    EmployeeChangeLog(
+            EmployeeChangeRepository employeeChangeRepository,
+            EmployeeChangeFeed employeeChangeFeed,
+            ObjectProvider<EmployeeReplica> employeeReplica,
+            EntityManager entityManager
+    ) {
+        this.employeeChangeRepository = employeeChangeRepository;
+        this.employeeChangeFeed = employeeChangeFeed;
+        this.employeeReplica = employeeReplica;
+        this.entityManager = entityManager;
+    }
+
+    void record(int employeeId, EmployeeChangeType changeType) {
+        record(List.of(employeeId), changeType);
+    }
+
+    void record(Collection<Integer> employeeIds, EmployeeChangeType changeType) {
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        long sequenceNumber = employeeChangeRepository.allocateSequenceNumbers(employeeIds.size()) - employeeIds.size();
+        OffsetDateTime changedAt = OffsetDateTime.now();
+        for (Integer employeeId : employeeIds) {
+            EmployeeChange change = new EmployeeChange();
+            change.setSequenceNumber(++sequenceNumber);
+            change.setEmployeeId(employeeId);
+            change.setChangeType(changeType);
+            change.setChangedAt(changedAt);
+            entityManager.persist(change);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // Waits for the replica, so a client reads its own write back from it.
+                employeeReplica.ifAvailable(EmployeeReplica::requestCatchUp);
+                employeeChangeFeed.publish();
+            }
+        });
+    }
+}
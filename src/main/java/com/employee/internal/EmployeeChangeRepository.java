@@ -0,0 +1,25 @@
+package com.employee.internal;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EmployeeChangeRepository extends JpaRepository<EmployeeChange, Long> {
+
+    @Query("select c from EmployeeChange c where c.sequenceNumber > :since order by c.sequenceNumber")
+    List<EmployeeChange> findAfter(@Param("since") long since, Pageable pageable);
+
+    @Query("select coalesce(max(c.sequenceNumber), 0) from EmployeeChange c")
+    long findLastSequenceNumber();
+
+    // Takes the counter row's lock, which is held until the calling transaction ends.
+    @Query(value = "SELECT LAST_SEQUENCE_NUMBER FROM FINAL TABLE ("
+            + "UPDATE EMPLOYEE_CHANGE_COUNTER SET LAST_SEQUENCE_NUMBER = LAST_SEQUENCE_NUMBER + :count WHERE ID = 1)",
+            nativeQuery = true)
+    long allocateSequenceNumbers(@Param("count") int count);
+}
@@ -0,0 +1,77 @@
+package com.employee.internal;
+
+import com.employee.api.behavior.ExportEmployees;
+import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+@Service
+public class EmployeeExportService implements ExportEmployees {
+
+    // Reads with plain JDBC rather than JPA so no employee outlives the row it was read
+    // from: the persistence context would otherwise hold every exported entity.
+    private static final String SELECT_EMPLOYEES_WITH_NOTES =
+            "SELECT e.EMPLOYEE_ID, e.FIRST_NAME, e.LAST_NAME, e.EMAIL_ADDRESS, n.NOTE_ID, n.TEXT "
+                    + "FROM EMPLOYEE e LEFT JOIN NOTE n ON n.EMPLOYEE_ID = e.EMPLOYEE_ID "
+                    + "ORDER BY e.EMPLOYEE_ID, n.NOTE_ID";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    EmployeeExportService(DataSource dataSource, @Value("${employee.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "ExportEmployees"})
+    public void exportEmployees(Consumer<EmployeeDTO> consumer) {
+        EmployeeRowHandler handler = new EmployeeRowHandler(consumer);
+        jdbcTemplate.query(SELECT_EMPLOYEES_WITH_NOTES, handler);
+        handler.finish();
+    }
+
+    // Rows arrive ordered by employee, so an employee is complete as soon as the next one starts.
+    private static final class EmployeeRowHandler implements RowCallbackHandler {
+
+        private final Consumer<EmployeeDTO> consumer;
+        private EmployeeDTO current;
+
+        private EmployeeRowHandler(Consumer<EmployeeDTO> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            int employeeId = rs.getInt("EMPLOYEE_ID");
+            if (current == null || current.getEmployeeID() != employeeId) {
+                finish();
+                current = new EmployeeDTO();
+                current.setEmployeeID(employeeId);
+                current.setFirstName(rs.getString("FIRST_NAME"));
+                current.setLastName(rs.getString("LAST_NAME"));
+                current.setEmailAddress(rs.getString("EMAIL_ADDRESS"));
+                current.setNotes(new ArrayList<>());
+            }
+            rs.getInt("NOTE_ID");
+            if (!rs.wasNull()) {
+                current.getNotes().add(rs.getString("TEXT"));
+            }
+        }
+
+        private void finish() {
+            if (current != null) {
+                consumer.accept(current);
+                current = null;
+            }
+        }
+    }
+}
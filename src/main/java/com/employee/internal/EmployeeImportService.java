@@ -0,0 +1,167 @@
+package com.employee.internal;
+
+import com.employee.api.behavior.ImportEmployees;
+import com.employee.api.model.BulkItemResultDTO;
+import com.employee.api.model.BulkItemStatus;
+import com.employee.api.model.EmployeeChangeType;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.api.model.EmployeeImportDTO;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Imports employees from a stream of unknown length. Rows are pulled from
+ * the iterator one at a time and written {@code chunk-size} at a time, each
+ * chunk in its own transaction, so neither the input nor the persistence
+ * context ever holds more than one chunk and a large file commits as it
+ * goes instead of at the end.
+ *
+ * Rows that fail validation are counted and skipped. If a chunk fails to
+ * write, its rows are retried one per transaction so a bad row fails alone.
+ * Progress is reported after every chunk; only the first {@link #MAX_ERRORS}
+ * problems are kept, so the report stays the same size however many rows
+ * are rejected.
+ */
+@Service
+public class EmployeeImportService implements ImportEmployees {
+
+    static final int MAX_ERRORS = 100;
+    // Reported instead of the exception, whose message can carry SQL and constraint names.
+    static final String FAILED_MESSAGE = "Employee could not be imported";
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeChangeCounter employeeChangeCounter;
+    private final EmployeeChangeLog employeeChangeLog;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    EmployeeImportService(
+            EmployeeRepository employeeRepository,
+            EmployeeMapper employeeMapper,
+            EmployeeChangeCounter employeeChangeCounter,
+            EmployeeChangeLog employeeChangeLog,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${employee.import.chunk-size:500}") int chunkSize
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.employeeChangeCounter = employeeChangeCounter;
+        this.employeeChangeLog = employeeChangeLog;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "ImportEmployees"})
+    public EmployeeImportDTO importEmployees(Iterator<EmployeeDTO> employees, Consumer<EmployeeImportDTO> progress) {
+        Progress counts = new Progress();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        while (employees.hasNext()) {
+            int index = counts.rowsRead++;
+            EmployeeDTO employeeDTO;
+            try {
+                employeeDTO = employees.next();
+            } catch (IllegalArgumentException e) {
+                counts.reject(index, e.getMessage());
+                continue;
+            }
+            String problem = EmployeeBulkService.validate(employeeDTO);
+            if (problem != null) {
+                counts.reject(index, problem);
+                continue;
+            }
+
+            chunk.add(new Row(index, employeeDTO));
+            if (chunk.size() == chunkSize) {
+                write(chunk, counts);
+                chunk.clear();
+                progress.accept(counts.snapshot(false));
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(chunk, counts);
+        }
+        EmployeeImportDTO result = counts.snapshot(true);
+        progress.accept(result);
+        return result;
+    }
+
+    private void write(List<Row> chunk, Progress counts) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(chunk));
+            counts.imported += chunk.size();
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                log.warn("Import row {} could not be written", chunk.get(0).index, e);
+                counts.reject(chunk.get(0).index, FAILED_MESSAGE);
+            } else {
+                chunk.forEach(row -> write(List.of(row), counts));
+            }
+        } finally {
+            // Whatever the outcome, nothing from this chunk stays in the persistence context.
+            entityManager.clear();
+        }
+    }
+
+    private void insert(List<Row> chunk) {
+        List<Employee> employees = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            employees.add(employeeRepository.save(employeeMapper.toEntity(row.employeeDTO)));
+        }
+        entityManager.flush();
+        List<Integer> created = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            created.add(employee.getEmployeeId());
+        }
+        employeeChangeLog.record(created, EmployeeChangeType.CREATED);
+        employeeChangeCounter.recordChange();
+    }
+
+    private static final class Row {
+
+        private final int index;
+        private final EmployeeDTO employeeDTO;
+
+        private Row(int index, EmployeeDTO employeeDTO) {
+            this.index = index;
+            this.employeeDTO = employeeDTO;
+        }
+    }
+
+    private static final class Progress {
+
+        private int rowsRead;
+        private long imported;
+        private long invalid;
+        private final List<BulkItemResultDTO> errors = new ArrayList<>();
+
+        private void reject(int index, String problem) {
+            invalid++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new BulkItemResultDTO(index, null, BulkItemStatus.INVALID, problem));
+            }
+        }
+
+        private EmployeeImportDTO snapshot(boolean complete) {
+            return new EmployeeImportDTO(rowsRead, imported, invalid, complete, new ArrayList<>(errors));
+        }
+    }
+}
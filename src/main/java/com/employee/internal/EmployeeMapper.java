@@ -1,16 +1,41 @@
 package com.employee.internal;
 
+import com.employee.api.model.EmployeeChangeDTO;
 import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
 public class EmployeeMapper {
 
+    // Hibernate increments the employee's version for changes to its own columns,
+    // but not for changes to its notes, so callers need to tell the two apart.
+    enum Update {
+        UNCHANGED,
+        NOTES_CHANGED,
+        EMPLOYEE_CHANGED
+    }
+
+    private final Counter employeeAllocations;
+    private final Counter noteAllocations;
+    private final Counter employeeDTOAllocations;
+
+    EmployeeMapper(MeterRegistry meterRegistry) {
+        this.employeeAllocations = allocationCounter(meterRegistry, "Employee");
+        this.noteAllocations = allocationCounter(meterRegistry, "Note");
+        this.employeeDTOAllocations = allocationCounter(meterRegistry, "EmployeeDTO");
+    }
+
     Employee toEntity(EmployeeDTO employeeDTO) {
         Employee employee = new Employee();
+        employeeAllocations.increment();
         employee.setEmployeeId(employeeDTO.getEmployeeID());
         employee.setFirstName(employeeDTO.getFirstName());
         employee.setLastName(employeeDTO.getLastName());
@@ -22,21 +47,166 @@ public class EmployeeMapper {
                         note.setText(noteMessage);
                         employee.addNote(note);
                     });
+            noteAllocations.increment(employeeDTO.getNotes().size());
         }
 
         return employee;
     }
 
+    Update updateEntity(Employee employee, EmployeeDTO employeeDTO) {
+        boolean changed = false;
+        if (!Objects.equals(employee.getFirstName(), employeeDTO.getFirstName())) {
+            employee.setFirstName(employeeDTO.getFirstName());
+            changed = true;
+        }
+        if (!Objects.equals(employee.getLastName(), employeeDTO.getLastName())) {
+            employee.setLastName(employeeDTO.getLastName());
+            changed = true;
+        }
+        if (!Objects.equals(employee.getEmailAddress(), employeeDTO.getEmailAddress())) {
+            employee.setEmailAddress(employeeDTO.getEmailAddress());
+            changed = true;
+        }
+        boolean notesChanged = updateNotes(employee, employeeDTO.getNotes() == null ? List.of() : employeeDTO.getNotes());
+        if (changed) {
+            return Update.EMPLOYEE_CHANGED;
+        }
+        return notesChanged ? Update.NOTES_CHANGED : Update.UNCHANGED;
+    }
+
     EmployeeDTO toDTO(Employee employee) {
         EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTOAllocations.increment();
         employeeDTO.setEmployeeID(employee.getEmployeeId());
         employeeDTO.setFirstName(employee.getFirstName());
         employeeDTO.setLastName(employee.getLastName());
         employeeDTO.setEmailAddress(employee.getEmailAddress());
         employeeDTO.setNotes(getNotesFromEmployee(employee));
+        employeeDTO.setVersion(employee.getVersion());
+        return employeeDTO;
+    }
+
+    EmployeeDTO toDTO(EmployeeRow employee) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTOAllocations.increment();
+        employeeDTO.setEmployeeID(employee.getEmployeeId());
+        employeeDTO.setFirstName(employee.getFirstName());
+        employeeDTO.setLastName(employee.getLastName());
+        employeeDTO.setEmailAddress(employee.getEmailAddress());
+        employeeDTO.setNotes(employee.getNotes());
+        return employeeDTO;
+    }
+
+    // Rows arrive ordered by employee, so each run of rows with the same id is one employee.
+    List<EmployeeDTO> toDTOs(List<EmployeeNoteRow> rows) {
+        List<EmployeeDTO> employeeDTOs = new ArrayList<>();
+        EmployeeDTO employeeDTO = null;
+        for (EmployeeNoteRow row : rows) {
+            if (employeeDTO == null || employeeDTO.getEmployeeID() != row.getEmployeeId()) {
+                employeeDTO = new EmployeeDTO();
+                employeeDTOAllocations.increment();
+                employeeDTO.setEmployeeID(row.getEmployeeId());
+                employeeDTO.setFirstName(row.getFirstName());
+                employeeDTO.setLastName(row.getLastName());
+                employeeDTO.setEmailAddress(row.getEmailAddress());
+                employeeDTO.setNotes(new ArrayList<>());
+                employeeDTO.setVersion(row.getVersion());
+                employeeDTOs.add(employeeDTO);
+            }
+            if (row.hasNote()) {
+                employeeDTO.getNotes().add(row.getNoteText());
+            }
+        }
+        return employeeDTOs;
+    }
+
+    EmployeeDTO toDTO(ReplicaEmployee employee) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTOAllocations.increment();
+        employeeDTO.setEmployeeID(employee.getEmployeeId());
+        employeeDTO.setFirstName(employee.getFirstName());
+        employeeDTO.setLastName(employee.getLastName());
+        employeeDTO.setEmailAddress(employee.getEmailAddress());
+        employeeDTO.setNotes(new ArrayList<>(Arrays.asList(employee.getNotes())));
+        employeeDTO.setVersion(employee.getVersion());
         return employeeDTO;
     }
 
+    ReplicaEmployee toReplica(Employee employee) {
+        return new ReplicaEmployee(
+                employee.getEmployeeId(),
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getEmailAddress(),
+                employee.getNotes().stream().map(Note::getText).toArray(String[]::new),
+                employee.getVersion());
+    }
+
+    EmployeeChangeDTO toDTO(EmployeeChange change) {
+        EmployeeChangeDTO changeDTO = new EmployeeChangeDTO();
+        changeDTO.setSequenceNumber(change.getSequenceNumber());
+        changeDTO.setEmployeeID(change.getEmployeeId());
+        changeDTO.setChangeType(change.getChangeType());
+        changeDTO.setChangedAt(change.getChangedAt());
+        return changeDTO;
+    }
+
+    // Notes are read back in NOTE_ID order, so the note at each position keeps its row and
+    // only takes the new text if it differs: a changed note costs one UPDATE rather than a
+    // DELETE plus an INSERT, and a reordering is stored as the texts changing places.
+    // Surplus notes are deleted from the end and missing ones appended after the rest.
+    private boolean updateNotes(Employee employee, List<String> noteMessages) {
+        List<Note> notes = employee.getNotes();
+        if (noteMessages.size() < notes.size() && removeDroppedNotes(employee, noteMessages)) {
+            return true;
+        }
+        boolean changed = notes.size() != noteMessages.size();
+        int kept = Math.min(notes.size(), noteMessages.size());
+        for (int i = 0; i < kept; i++) {
+            Note note = notes.get(i);
+            if (!Objects.equals(note.getText(), noteMessages.get(i))) {
+                note.setText(noteMessages.get(i));
+                changed = true;
+            }
+        }
+        for (Note note : new ArrayList<>(notes.subList(kept, notes.size()))) {
+            employee.removeNote(note);
+        }
+        for (String noteMessage : noteMessages.subList(kept, noteMessages.size())) {
+            Note note = new Note();
+            note.setText(noteMessage);
+            employee.addNote(note);
+            noteAllocations.increment();
+        }
+        return changed;
+    }
+
+    // When the request only leaves notes out, the others keep their rows and their order,
+    // so the notes left out are the only ones deleted. Returns false, changing nothing, otherwise.
+    private static boolean removeDroppedNotes(Employee employee, List<String> noteMessages) {
+        List<Note> dropped = new ArrayList<>();
+        int matched = 0;
+        for (Note note : employee.getNotes()) {
+            if (matched < noteMessages.size() && Objects.equals(note.getText(), noteMessages.get(matched))) {
+                matched++;
+            } else {
+                dropped.add(note);
+            }
+        }
+        if (matched < noteMessages.size()) {
+            return false;
+        }
+        dropped.forEach(employee::removeNote);
+        return true;
+    }
+
+    private static Counter allocationCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("employee.mapper.allocations")
+                .description("Objects created by the mapper")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
     private List<String> getNotesFromEmployee(Employee employee) {
         return employee
                 .getNotes()
@@ -0,0 +1,64 @@
+package com.employee.internal;
+
+/**
+ * One row of the employee read projection: an employee's columns together
+ * with one of its notes, or with no note if it has none. Selected with a
+ * constructor expression, so Hibernate neither creates entities for it nor
+ * keeps a snapshot of it in the persistence context.
+ */
+final class EmployeeNoteRow {
+
+    private final int employeeId;
+    private final String firstName;
+    private final String lastName;
+    private final String emailAddress;
+    private final long version;
+    private final Integer noteId;
+    private final String noteText;
+
+    public EmployeeNoteRow(
+            int employeeId,
+            String firstName,
+            String lastName,
+            String emailAddress,
+            long version,
+            Integer noteId,
+            String noteText
+    ) {
+        this.employeeId = employeeId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.emailAddress = emailAddress;
+        this.version = version;
+        this.noteId = noteId;
+        this.noteText = noteText;
+    }
+
+    int getEmployeeId() {
+        return employeeId;
+    }
+
+    String getFirstName() {
+        return firstName;
+    }
+
+    String getLastName() {
+        return lastName;
+    }
+
+    String getEmailAddress() {
+        return emailAddress;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    boolean hasNote() {
+        return noteId != null;
+    }
+
+    String getNoteText() {
+        return noteText;
+    }
+}
@@ -0,0 +1,200 @@
+package com.employee.internal;
+
+import com.employee.api.behavior.FindEmployee;
+import com.employee.api.behavior.FindEmployees;
+import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory copy of the employee table that answers {@link FindEmployee} and
+ * {@link FindEmployees} without a database round trip. Enabled with
+ * {@code employee.replica.enabled=true}, in which case it takes precedence
+ * over {@link EmployeeService} for those two behaviors.
+ *
+ * The replica is loaded at startup and then follows the change log: after
+ * each committed write {@link EmployeeChangeLog} calls
+ * {@link #requestCatchUp()}, and a background thread reloads the employees
+ * logged since the last catch-up and swaps in a new snapshot. Writes that
+ * commit while a catch-up is queued share it, so a burst of writes copies
+ * the table once rather than once per write. Reads only ever see a
+ * complete snapshot.
+ *
+ * The writer waits for the catch-up, up to {@code catch-up-timeout}, so
+ * that it reads its own write back. A catch-up that fails is logged and
+ * left to the next write; the write that asked for it still succeeds.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "employee.replica.enabled", havingValue = "true")
+public class EmployeeReplica implements FindEmployee, FindEmployees, SmartInitializingSingleton {
+
+    static final int PAGE_SIZE = 1000;
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeReplica.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeChangeRepository employeeChangeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final long catchUpTimeoutNanos;
+    private final AtomicBoolean catchUpPending = new AtomicBoolean();
+    // Catch-ups requested so far; each writer waits until one started after its request is applied.
+    private final AtomicLong catchUpsRequested = new AtomicLong();
+    private final Object catchUpProgress = new Object();
+
+    private final ExecutorService catchUps = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-replica-catch-up");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile EmployeeReplicaTable table = EmployeeReplicaTable.EMPTY;
+    private long position;
+    private long catchUpsApplied;
+
+    EmployeeReplica(
+            EmployeeRepository employeeRepository,
+            EmployeeChangeRepository employeeChangeRepository,
+            EmployeeMapper employeeMapper,
+            @Value("${employee.replica.catch-up-timeout:1s}") Duration catchUpTimeout
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.employeeChangeRepository = employeeChangeRepository;
+        this.employeeMapper = employeeMapper;
+        this.catchUpTimeoutNanos = catchUpTimeout.toNanos();
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "FindEmployee"})
+    public EmployeeDTO findEmployee(int employeeId) {
+        ReplicaEmployee employee = table.get(employeeId);
+        if (employee == null) {
+            throw new RuntimeException("Employee does not exist");
+        }
+        return employeeMapper.toDTO(employee);
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "FindEmployees"})
+    public List<EmployeeDTO> findEmployees() {
+        EmployeeReplicaTable snapshot = table;
+        List<EmployeeDTO> employeeDTOs = new ArrayList<>(snapshot.size());
+        snapshot.forEach(employee -> employeeDTOs.add(employeeMapper.toDTO(employee)));
+        return employeeDTOs;
+    }
+
+    int size() {
+        return table.size();
+    }
+
+    // Runs once every bean, including the schema initializer, is ready, but before
+    // the web server starts taking requests.
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    // The log position is read first: a write that commits during the load is
+    // then replayed by the next catch-up, and replaying one twice is harmless.
+    synchronized void load() {
+        position = employeeChangeRepository.findLastSequenceNumber();
+        SortedMap<Integer, ReplicaEmployee> employees = new TreeMap<>();
+        List<Integer> employeeIds;
+        int after = 0;
+        do {
+            employeeIds = employeeRepository.findPageIdsAfter(after, PageRequest.of(0, PAGE_SIZE));
+            if (!employeeIds.isEmpty()) {
+                employeeRepository.findAllWithNotesByIdIn(employeeIds)
+                        .forEach(employee -> employees.put(employee.getEmployeeId(), employeeMapper.toReplica(employee)));
+                after = employeeIds.get(employeeIds.size() - 1);
+            }
+        } while (employeeIds.size() == PAGE_SIZE);
+        table = EmployeeReplicaTable.EMPTY.with(employees);
+    }
+
+    // Called after each committed write. Calls made while a catch-up is already queued share it.
+    void requestCatchUp() {
+        long request = catchUpsRequested.incrementAndGet();
+        if (catchUpPending.compareAndSet(false, true)) {
+            catchUps.execute(this::catchUpRequested);
+        }
+        awaitCatchUp(request);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        catchUps.shutdownNow();
+    }
+
+    private void catchUpRequested() {
+        catchUpPending.set(false);
+        long covered = catchUpsRequested.get();
+        try {
+            catchUp();
+        } catch (RuntimeException e) {
+            log.warn("Replica catch-up failed; the next write will retry it", e);
+        }
+        synchronized (catchUpProgress) {
+            catchUpsApplied = Math.max(catchUpsApplied, covered);
+            catchUpProgress.notifyAll();
+        }
+    }
+
+    private void awaitCatchUp(long request) {
+        long deadline = System.nanoTime() + catchUpTimeoutNanos;
+        synchronized (catchUpProgress) {
+            long remaining;
+            while (catchUpsApplied < request && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(catchUpProgress, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // Synchronized so that each catch-up reads the database after the previous
+    // one has been applied; an older read can then never overwrite a newer one.
+    synchronized void catchUp() {
+        List<EmployeeChange> changes;
+        do {
+            changes = employeeChangeRepository.findAfter(position, PageRequest.of(0, PAGE_SIZE));
+            if (changes.isEmpty()) {
+                return;
+            }
+            Set<Integer> employeeIds = new LinkedHashSet<>();
+            changes.forEach(change -> employeeIds.add(change.getEmployeeId()));
+
+            SortedMap<Integer, ReplicaEmployee> updates = new TreeMap<>();
+            employeeIds.forEach(employeeId -> updates.put(employeeId, null));
+            employeeRepository.findAllWithNotesByIdIn(employeeIds)
+                    .forEach(employee -> updates.put(employee.getEmployeeId(), employeeMapper.toReplica(employee)));
+
+            table = table.with(updates);
+            position = changes.get(changes.size() - 1).getSequenceNumber();
+        } while (changes.size() == PAGE_SIZE);
+    }
+}
@@ -0,0 +1,107 @@
+package com.employee.internal;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.function.Consumer;
+
+/**
+ * Immutable snapshot of the replicated employees, keyed by a primitive int.
+ *
+ * Employees are held in two parallel arrays sorted by id, so a full scan
+ * comes back in id order. An open-addressing table of array indexes (plus
+ * one, so that zero marks a free slot) finds a single employee without
+ * boxing its id. Changes never modify a snapshot; {@link #with} builds a
+ * new one, so readers need no locking.
+ */
+final class EmployeeReplicaTable {
+
+    static final EmployeeReplicaTable EMPTY = new EmployeeReplicaTable(new int[0], new ReplicaEmployee[0]);
+
+    private final int[] ids;
+    private final ReplicaEmployee[] employees;
+    private final int[] slots;
+    private final int mask;
+
+    private EmployeeReplicaTable(int[] ids, ReplicaEmployee[] employees) {
+        this.ids = ids;
+        this.employees = employees;
+        // Kept at most half full, so probe sequences stay short.
+        int capacity = Integer.highestOneBit(Math.max(2, ids.length) * 2 - 1) << 1;
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        for (int index = 0; index < ids.length; index++) {
+            int slot = hash(ids[index]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index + 1;
+        }
+    }
+
+    ReplicaEmployee get(int employeeId) {
+        int slot = hash(employeeId) & mask;
+        int index;
+        while ((index = slots[slot]) != 0) {
+            if (ids[index - 1] == employeeId) {
+                return employees[index - 1];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    void forEach(Consumer<ReplicaEmployee> action) {
+        for (ReplicaEmployee employee : employees) {
+            action.accept(employee);
+        }
+    }
+
+    /**
+     * Returns a snapshot with the given changes applied. A {@code null} value
+     * removes that id. This copies the whole table, so callers should apply
+     * changes in batches rather than one at a time.
+     */
+    EmployeeReplicaTable with(SortedMap<Integer, ReplicaEmployee> changes) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        int[] newIds = new int[ids.length + changes.size()];
+        ReplicaEmployee[] newEmployees = new ReplicaEmployee[newIds.length];
+        int size = 0;
+        int index = 0;
+        for (Map.Entry<Integer, ReplicaEmployee> change : changes.entrySet()) {
+            int employeeId = change.getKey();
+            int end = index;
+            while (end < ids.length && ids[end] < employeeId) {
+                end++;
+            }
+            System.arraycopy(ids, index, newIds, size, end - index);
+            System.arraycopy(employees, index, newEmployees, size, end - index);
+            size += end - index;
+            index = end < ids.length && ids[end] == employeeId ? end + 1 : end;
+            if (change.getValue() != null) {
+                newIds[size] = employeeId;
+                newEmployees[size++] = change.getValue();
+            }
+        }
+        System.arraycopy(ids, index, newIds, size, ids.length - index);
+        System.arraycopy(employees, index, newEmployees, size, ids.length - index);
+        size += ids.length - index;
+
+        int[] trimmedIds = new int[size];
+        ReplicaEmployee[] trimmedEmployees = new ReplicaEmployee[size];
+        System.arraycopy(newIds, 0, trimmedIds, 0, size);
+        System.arraycopy(newEmployees, 0, trimmedEmployees, 0, size);
+        return new EmployeeReplicaTable(trimmedIds, trimmedEmployees);
+    }
+
+    // Sequential ids would otherwise fill runs of adjacent slots.
+    private static int hash(int employeeId) {
+        int h = employeeId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,9 +1,68 @@
 package com.employee.internal;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
 
+    @Transactional(readOnly = true)
+    @Query("select e.version from Employee e where e.employeeID = :id")
+    Optional<Long> findVersionById(@Param("id") int id);
+
+    @Query("select e from Employee e left join fetch e.notes where e.employeeID in :ids order by e.employeeID")
+    List<Employee> findAllWithNotesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // Read projections: one EmployeeNoteRow per note, ordered by employee, so no entities are
+    // created or snapshotted. The single-statement reads carry their own read-only transaction.
+    String EMPLOYEE_NOTE_ROWS = "select new com.employee.internal.EmployeeNoteRow("
+            + "e.employeeID, e.firstName, e.lastName, e.emailAddress, e.version, n.noteId, n.text) "
+            + "from Employee e left join e.notes n ";
+
+    @Transactional(readOnly = true)
+    @Query(EMPLOYEE_NOTE_ROWS + "order by e.employeeID, n.noteId")
+    List<EmployeeNoteRow> findAllRows();
+
+    @Transactional(readOnly = true)
+    @Query(EMPLOYEE_NOTE_ROWS + "where e.employeeID = :id order by n.noteId")
+    List<EmployeeNoteRow> findRowsById(@Param("id") int id);
+
+    @Query(EMPLOYEE_NOTE_ROWS + "where e.employeeID in :ids order by e.employeeID, n.noteId")
+    List<EmployeeNoteRow> findRowsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("select e.employeeID from Employee e where e.employeeID > :after order by e.employeeID")
+    List<Integer> findPageIdsAfter(@Param("after") int after, Pageable pageable);
+
+    // One branch per indexed lower-case column, so each is an index range scan; an OR across
+    // the three columns would fall back to scanning the whole table.
+    @Query(value = "SELECT EMPLOYEE_ID FROM EMPLOYEE WHERE FIRST_NAME_LOWER LIKE :prefix ESCAPE '\\' AND EMPLOYEE_ID > :after "
+            + "UNION SELECT EMPLOYEE_ID FROM EMPLOYEE WHERE LAST_NAME_LOWER LIKE :prefix ESCAPE '\\' AND EMPLOYEE_ID > :after "
+            + "UNION SELECT EMPLOYEE_ID FROM EMPLOYEE WHERE EMAIL_ADDRESS_LOWER LIKE :prefix ESCAPE '\\' AND EMPLOYEE_ID > :after "
+            + "ORDER BY EMPLOYEE_ID LIMIT :limit", nativeQuery = true)
+    List<Integer> searchPageIdsAfter(@Param("prefix") String prefix, @Param("after") int after, @Param("limit") int limit);
+
+    @Query("select e.employeeID from Employee e where e.employeeID in :ids")
+    List<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("delete from Note n where n.employee.employeeID in :ids")
+    int deleteNotesByEmployeeIds(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("delete from Note n where n.employee.employeeID = :id")
+    int deleteNotesByEmployeeId(@Param("id") int id);
+
+    @Modifying
+    @Query("delete from Employee e where e.employeeID = :id")
+    int deleteEmployeeById(@Param("id") int id);
+
 }
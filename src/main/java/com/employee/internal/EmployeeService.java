@@ -1,63 +1,229 @@
 package com.employee.internal;
 
 import com.employee.api.behavior.*;
+import com.employee.api.model.EmployeeChangeType;
 import com.employee.api.model.EmployeeDTO;
+import com.employee.api.model.EmployeePageDTO;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class EmployeeService implements
         CreateEmployee,
         FindEmployee,
+        FindEmployeeVersion,
         FindEmployees,
+        FindEmployeesVersion,
+        FindEmployeesPage,
+        SearchEmployees,
         UpdateEmployee,
         DeleteEmployee {
 
+    static final int MAX_PAGE_SIZE = 1000;
+
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
+    private final EmployeeCache employeeCache;
+    private final EmployeeChangeCounter employeeChangeCounter;
+    private final EmployeeChangeLog employeeChangeLog;
+    private final EntityManager entityManager;
+    private final SingleFlight<String, EmployeeDTO> employeeLoads;
+    private final SingleFlight<String, List<EmployeeDTO>> employeesLoads;
 
-    EmployeeService(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper) {
+    EmployeeService(
+            EmployeeRepository employeeRepository,
+            EmployeeMapper employeeMapper,
+            EmployeeCache employeeCache,
+            EmployeeChangeCounter employeeChangeCounter,
+            EmployeeChangeLog employeeChangeLog,
+            EntityManager entityManager,
+            MeterRegistry meterRegistry,
+            @Value("${employee.single-flight.timeout:5s}") Duration singleFlightTimeout
+    ) {
         this.employeeRepository = employeeRepository;
         this.employeeMapper = employeeMapper;
+        this.employeeCache = employeeCache;
+        this.employeeChangeCounter = employeeChangeCounter;
+        this.employeeChangeLog = employeeChangeLog;
+        this.entityManager = entityManager;
+        this.employeeLoads = new SingleFlight<>("FindEmployee", singleFlightTimeout, meterRegistry);
+        this.employeesLoads = new SingleFlight<>("FindEmployees", singleFlightTimeout, meterRegistry);
     }
 
     @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "CreateEmployee"})
+    @Transactional
     public void createEmployee(EmployeeDTO employeeDTO) {
         Employee employee = employeeMapper.toEntity(employeeDTO);
         employeeRepository.save(employee);
+        if (employeeDTO.getEmployeeID() != null) {
+            employeeCache.evictAfterCommit(employeeDTO.getEmployeeID());
+        }
+        employeeChangeLog.record(employee.getEmployeeId(),
+                employeeDTO.getEmployeeID() == null ? EmployeeChangeType.CREATED : EmployeeChangeType.UPDATED);
+        employeeChangeCounter.recordChange();
     }
 
+    // Concurrent calls share one load. The change count is part of the key, so a call made
+    // after a write has committed never gets the result of a load that started before it.
+    // Not transactional itself, so callers waiting on a shared load hold no connection.
     @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "FindEmployees"})
     public List<EmployeeDTO> findEmployees() {
-        return employeeRepository
-                .findAll()
-                .stream()
-                .map(employeeMapper::toDTO)
-                .collect(Collectors.toList());
+        return employeesLoads.load(employeeChangeCounter.current(),
+                () -> employeeMapper.toDTOs(employeeRepository.findAllRows()));
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "FindEmployeesVersion"})
+    public String findEmployeesVersion() {
+        return employeeChangeCounter.current();
     }
 
     @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "FindEmployeesPage"})
+    @Transactional(readOnly = true)
+    public EmployeePageDTO findEmployeesPage(Integer after, int limit) {
+        int pageSize = pageSize(limit);
+        List<Integer> employeeIds = employeeRepository.findPageIdsAfter(
+                after == null ? 0 : after,
+                PageRequest.of(0, pageSize + 1));
+        return toPage(employeeIds, pageSize);
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "SearchEmployees"})
+    @Transactional(readOnly = true)
+    public EmployeePageDTO searchEmployees(String query, Integer after, int limit) {
+        int pageSize = pageSize(limit);
+        List<Integer> employeeIds = employeeRepository.searchPageIdsAfter(
+                toPrefixPattern(query),
+                after == null ? 0 : after,
+                pageSize + 1);
+        return toPage(employeeIds, pageSize);
+    }
+
+    // Not transactional itself, so a cache hit does not check out a connection; the
+    // repository read below runs in a read-only transaction of its own.
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "FindEmployee"})
     public EmployeeDTO findEmployee(int employeeId) {
-        Optional<Employee> employee = employeeRepository.findById(employeeId);
-        return employee.map(employeeMapper::toDTO)
-                .orElseThrow(() -> new RuntimeException("Employee does not exist"));
+        if (inReadWriteTransaction()) {
+            return loadEmployee(employeeId);
+        }
+        Optional<EmployeeDTO> cached = employeeCache.get(employeeId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        // Concurrent misses for the same employee share one load, keyed as findEmployees is.
+        return employeeLoads.load(employeeId + " " + employeeChangeCounter.current(), () -> {
+            long stamp = employeeCache.stamp();
+            EmployeeDTO employeeDTO = loadEmployee(employeeId);
+            employeeCache.put(employeeId, employeeDTO, stamp);
+            return employeeDTO;
+        });
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "FindEmployeeVersion"})
+    public Optional<Long> findEmployeeVersion(int employeeId) {
+        Optional<EmployeeDTO> cached = inReadWriteTransaction() ? Optional.empty() : employeeCache.get(employeeId);
+        if (cached.isPresent()) {
+            return Optional.of(cached.get().getVersion());
+        }
+        return employeeRepository.findVersionById(employeeId);
     }
 
     @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "UpdateEmployee"})
+    @Transactional
     public void updateEmployee(int employeeId, EmployeeDTO employeeDTO) {
         employeeDTO.setEmployeeID(employeeId);
-        Employee employee = employeeMapper.toEntity(employeeDTO);
-        employeeRepository.save(employee);
+        // By id rather than with a fetch join, so the employee and its notes can come from the second-level cache.
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new RuntimeException("Employee does not exist"));
+        if (employeeDTO.getVersion() != null && employeeDTO.getVersion() != employee.getVersion()) {
+            throw new OptimisticLockingFailureException("Employee " + employeeId + " has changed");
+        }
+        EmployeeMapper.Update update = employeeMapper.updateEntity(employee, employeeDTO);
+        if (update == EmployeeMapper.Update.NOTES_CHANGED) {
+            // Otherwise a change to a note alone would leave the employee's version, and so its ETag, as it was.
+            entityManager.lock(employee, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        }
+        if (update != EmployeeMapper.Update.UNCHANGED) {
+            employeeChangeLog.record(employeeId, EmployeeChangeType.UPDATED);
+            employeeCache.evictAfterCommit(employeeId);
+            employeeChangeCounter.recordChange();
+        }
     }
 
     @Override
-    public void deleteEmployee(int employeeId) {
-        if (employeeRepository.existsById(employeeId)) {
-            employeeRepository.deleteById(employeeId);
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "DeleteEmployee"})
+    @Transactional
+    public boolean deleteEmployee(int employeeId) {
+        // Bulk deletes: no entity is loaded, and the notes go in one statement rather than one per row.
+        employeeRepository.deleteNotesByEmployeeId(employeeId);
+        boolean deleted = employeeRepository.deleteEmployeeById(employeeId) > 0;
+        employeeCache.evictAfterCommit(employeeId);
+        if (deleted) {
+            employeeChangeLog.record(employeeId, EmployeeChangeType.DELETED);
+            employeeChangeCounter.recordChange();
+        }
+        return deleted;
+    }
+
+    private EmployeeDTO loadEmployee(int employeeId) {
+        return employeeMapper.toDTOs(employeeRepository.findRowsById(employeeId))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Employee does not exist"));
+    }
+
+    // Evictions wait for commit, so inside a caller's read-write transaction the cache can
+    // be behind that transaction's own writes, and a read can see writes that may yet roll
+    // back. Such reads neither use the cache nor share their load with other callers.
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    // Ids are fetched one past the page size; the extra id only signals that another page exists.
+    private EmployeePageDTO toPage(List<Integer> employeeIds, int pageSize) {
+        EmployeePageDTO page = new EmployeePageDTO();
+        if (employeeIds.size() > pageSize) {
+            employeeIds = employeeIds.subList(0, pageSize);
+            page.setNextCursor(employeeIds.get(pageSize - 1));
         }
+        page.setEmployees(employeeIds.isEmpty()
+                ? Collections.emptyList()
+                : employeeMapper.toDTOs(employeeRepository.findRowsByIdIn(employeeIds)));
+        return page;
     }
 
+    // Matches against the lower-case columns, with LIKE wildcards in the query taken literally.
+    static String toPrefixPattern(String query) {
+        String prefix = query.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return prefix + "%";
+    }
 }
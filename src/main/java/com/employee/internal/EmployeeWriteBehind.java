@@ -0,0 +1,252 @@
+package com.employee.internal;
+
+import com.employee.api.behavior.EnqueueEmployee;
+import com.employee.api.behavior.FindEmployeeCreation;
+import com.employee.api.model.EmployeeChangeType;
+import com.employee.api.model.EmployeeCreationDTO;
+import com.employee.api.model.EmployeeCreationStatus;
+import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind path for {@code POST /api/employees}. Enabled with
+ * {@code employee.create.async.enabled=true}, in which case the controller
+ * hands each new employee to {@link #enqueueEmployee} and answers 202
+ * straight away, or 429 once {@code queue-capacity} employees are waiting.
+ *
+ * One writer thread drains the queue. Whatever has queued up while it was
+ * busy, up to {@code max-batch-size} employees, is inserted and logged in a
+ * single transaction, so a burst of requests costs one commit per batch
+ * rather than one per employee. If a batch fails, its employees are retried
+ * one per transaction, so a bad request fails alone. A batch that has
+ * committed is never retried, even if work after the commit fails. The
+ * outcome of the last {@code status-retention} submissions can be looked
+ * up by creation id.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.create.async.enabled", havingValue = "true")
+public class EmployeeWriteBehind implements EnqueueEmployee, FindEmployeeCreation, SmartInitializingSingleton {
+
+    private static final long POLL_MILLIS = 100;
+    // Reported instead of the exception, whose message can carry SQL and constraint names.
+    private static final String FAILED_MESSAGE = "Employee could not be created";
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeCache employeeCache;
+    private final EmployeeChangeCounter employeeChangeCounter;
+    private final EmployeeChangeLog employeeChangeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final BlockingQueue<Creation> queue;
+    private final Map<String, EmployeeCreationDTO> creations;
+    private final Counter rejected;
+    private final DistributionSummary batchSizes;
+    private final Thread writer = new Thread(this::run, "employee-write-behind");
+
+    private volatile boolean running = true;
+
+    EmployeeWriteBehind(
+            EmployeeRepository employeeRepository,
+            EmployeeMapper employeeMapper,
+            EmployeeCache employeeCache,
+            EmployeeChangeCounter employeeChangeCounter,
+            EmployeeChangeLog employeeChangeLog,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${employee.create.async.queue-capacity:10000}") int queueCapacity,
+            @Value("${employee.create.async.max-batch-size:500}") int maxBatchSize,
+            @Value("${employee.create.async.status-retention:50000}") int statusRetention
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.employeeCache = employeeCache;
+        this.employeeChangeCounter = employeeChangeCounter;
+        this.employeeChangeLog = employeeChangeLog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = maxBatchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.creations = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EmployeeCreationDTO> eldest) {
+                return size() > statusRetention;
+            }
+        };
+        Gauge.builder("employee.create.queue.depth", queue, BlockingQueue::size)
+                .description("Employees accepted by POST /api/employees and not yet written")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("employee.create.rejected")
+                .description("Employees turned away with 429 because the write-behind queue was full")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("employee.create.batch.size")
+                .description("Employees inserted per write-behind transaction")
+                .register(meterRegistry);
+        writer.setDaemon(true);
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "EnqueueEmployee"})
+    public Optional<EmployeeCreationDTO> enqueueEmployee(EmployeeDTO employeeDTO) {
+        // Checked here rather than by the writer, so the client hears about it now and not on polling.
+        String problem = EmployeeBulkService.validate(employeeDTO);
+        if (problem != null) {
+            throw new IllegalArgumentException(problem);
+        }
+        EmployeeCreationDTO creation = new EmployeeCreationDTO(
+                UUID.randomUUID().toString(), EmployeeCreationStatus.QUEUED, null, null);
+        // Recorded first, so the status can be looked up as soon as the client has the id.
+        setStatus(creation);
+        if (!running || !queue.offer(new Creation(creation.getCreationId(), employeeDTO))) {
+            removeStatus(creation.getCreationId());
+            rejected.increment();
+            return Optional.empty();
+        }
+        return Optional.of(creation);
+    }
+
+    @Override
+    @Timed(value = "employee.behavior", extraTags = {"behavior", "FindEmployeeCreation"})
+    public Optional<EmployeeCreationDTO> findEmployeeCreation(String creationId) {
+        return Optional.ofNullable(getStatus(creationId));
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        writer.start();
+    }
+
+    // New employees are refused from here on; those already accepted are still written.
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                writeNext(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    // Waits up to timeoutMillis for a first employee, then takes whatever else is
+    // already queued, up to the batch size, without waiting for more.
+    int writeNext(long timeoutMillis) throws InterruptedException {
+        Creation first = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return 0;
+        }
+        List<Creation> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        queue.drainTo(batch, maxBatchSize - 1);
+        write(batch);
+        return batch.size();
+    }
+
+    private void write(List<Creation> batch) {
+        List<Employee> employees = new ArrayList<>(batch.size());
+        AtomicBoolean committed = new AtomicBoolean();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Registered before the change log's, so it runs first and is set even if
+                // the work done after the commit fails.
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            committed.set(true);
+                        }
+                    });
+                }
+                employees.addAll(insert(batch));
+            });
+        } catch (RuntimeException e) {
+            // Once committed, the batch is written and inserting it again would duplicate it.
+            if (!committed.get()) {
+                if (batch.size() == 1) {
+                    setStatus(new EmployeeCreationDTO(
+                            batch.get(0).creationId, EmployeeCreationStatus.FAILED, null, FAILED_MESSAGE));
+                } else {
+                    batch.forEach(creation -> write(List.of(creation)));
+                }
+                return;
+            }
+        }
+        batchSizes.record(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            setStatus(new EmployeeCreationDTO(
+                    batch.get(i).creationId, EmployeeCreationStatus.CREATED, employees.get(i).getEmployeeId(), null));
+        }
+    }
+
+    // The same writes createEmployee makes, once per batch instead of once per employee.
+    private List<Employee> insert(List<Creation> batch) {
+        List<Employee> employees = new ArrayList<>(batch.size());
+        List<Integer> created = new ArrayList<>();
+        List<Integer> updated = new ArrayList<>();
+        for (Creation creation : batch) {
+            Employee employee = employeeRepository.save(employeeMapper.toEntity(creation.employeeDTO));
+            employees.add(employee);
+            if (creation.employeeDTO.getEmployeeID() == null) {
+                created.add(employee.getEmployeeId());
+            } else {
+                employeeCache.evictAfterCommit(creation.employeeDTO.getEmployeeID());
+                updated.add(employee.getEmployeeId());
+            }
+        }
+        employeeChangeLog.record(created, EmployeeChangeType.CREATED);
+        employeeChangeLog.record(updated, EmployeeChangeType.UPDATED);
+        employeeChangeCounter.recordChange();
+        return employees;
+    }
+
+    private synchronized EmployeeCreationDTO getStatus(String creationId) {
+        return creations.get(creationId);
+    }
+
+    private synchronized void setStatus(EmployeeCreationDTO creation) {
+        creations.put(creation.getCreationId(), creation);
+    }
+
+    private synchronized void removeStatus(String creationId) {
+        creations.remove(creationId);
+    }
+
+    private static final class Creation {
+
+        private final String creationId;
+        private final EmployeeDTO employeeDTO;
+
+        private Creation(String creationId, EmployeeDTO employeeDTO) {
+            this.creationId = creationId;
+            this.employeeDTO = employeeDTO;
+        }
+    }
+}
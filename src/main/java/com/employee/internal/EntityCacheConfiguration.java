@@ -0,0 +1,58 @@
+package com.employee.internal;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+
+/**
+ * Hibernate's second-level cache: a JCache (Ehcache) manager holding one
+ * on-heap region per cached mapping, each bounded to a number of entries.
+ * The manager is created here rather than by Hibernate so that
+ * {@link EntityCacheMetrics} can report the size of each region.
+ */
+@Configuration
+class EntityCacheConfiguration {
+
+    static final String EMPLOYEE_REGION = "employee";
+    static final String EMPLOYEE_NOTES_REGION = "employee.notes";
+    static final String NOTE_REGION = "note";
+
+    // A provider of its own per context: the shared provider hands out one manager per URI,
+    // which several application contexts in the same JVM would then share.
+    @Bean(destroyMethod = "close")
+    CacheManager entityCacheManager(
+            @Value("${employee.entity-cache.employees:10000}") long employees,
+            @Value("${employee.entity-cache.notes:50000}") long notes
+    ) {
+        EhcacheCachingProvider provider = new EhcacheCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        createRegion(cacheManager, EMPLOYEE_REGION, employees);
+        createRegion(cacheManager, EMPLOYEE_NOTES_REGION, employees);
+        createRegion(cacheManager, NOTE_REGION, notes);
+        return cacheManager;
+    }
+
+    // A region Hibernate asks for that is not created above fails startup instead of
+    // silently getting an unbounded default.
+    @Bean
+    HibernatePropertiesCustomizer entityCacheProperties(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long entries) {
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                        Object.class, Object.class, ResourcePoolsBuilder.heap(entries))));
+    }
+}
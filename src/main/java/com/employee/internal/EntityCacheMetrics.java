@@ -0,0 +1,88 @@
+package com.employee.internal;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes the entry count for each second-level cache region, and its
+ * hits, misses, puts and hit ratio, tagged with the region name. Hit, miss
+ * and put counts come from Hibernate statistics, so those meters are only
+ * published with {@code employee.entity-cache.statistics.enabled=true}.
+ */
+@Component
+class EntityCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+    private final CacheManager entityCacheManager;
+
+    EntityCacheMetrics(EntityManagerFactory entityManagerFactory, CacheManager entityCacheManager) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.entityCacheManager = entityCacheManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : entityCacheManager.getCacheNames()) {
+            if (statistics.isStatisticsEnabled()) {
+                requests(registry, region, "hit", CacheRegionStatistics::getHitCount);
+                requests(registry, region, "miss", CacheRegionStatistics::getMissCount);
+                FunctionCounter.builder("hibernate.second.level.cache.puts", statistics,
+                                s -> count(region, CacheRegionStatistics::getPutCount))
+                        .description("Entries put into a second-level cache region")
+                        .tag("region", region)
+                        .register(registry);
+                Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics, s -> hitRatio(region))
+                        .description("Share of second-level cache lookups in a region that were hits")
+                        .tag("region", region)
+                        .register(registry);
+            }
+            Gauge.builder("hibernate.second.level.cache.size", entityCacheManager, m -> size(region))
+                    .description("Entries held in a second-level cache region")
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private void requests(MeterRegistry registry, String region, String result, ToLongFunction<CacheRegionStatistics> count) {
+        FunctionCounter.builder("hibernate.second.level.cache.requests", statistics, s -> count(region, count))
+                .description("Lookups in a second-level cache region")
+                .tags("region", region, "result", result)
+                .register(registry);
+    }
+
+    // Looked up on every read: Statistics.clear() replaces the per-region statistics.
+    private long count(String region, ToLongFunction<CacheRegionStatistics> count) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+    }
+
+    private double hitRatio(String region) {
+        long hits = count(region, CacheRegionStatistics::getHitCount);
+        long lookups = hits + count(region, CacheRegionStatistics::getMissCount);
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+
+    // JCache has no size operation. Regions are bounded, so walking one at scrape time is cheap enough.
+    private long size(String region) {
+        Cache<Object, Object> cache = entityCacheManager.getCache(region);
+        if (cache == null || cache.isClosed()) {
+            return 0;
+        }
+        long entries = 0;
+        for (Cache.Entry<Object, Object> ignored : cache) {
+            entries++;
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,140 @@
+package com.employee.internal;
+
+import com.employee.api.model.EmployeeDTO;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Size and TTL bounded {@link EmployeeCache}. Entries are kept in access order,
+ * so once {@code maxSize} is reached the least recently used entry is evicted.
+ * Entries older than {@code ttl} are treated as misses and counted as evictions.
+ *
+ * Every evict takes a new stamp and remembers it for the employee, for up to
+ * {@code maxSize} employees. A put whose stamp is older than the employee's
+ * last eviction is dropped, so a read that raced a write cannot put the row
+ * back as it was before the write. Once an employee's eviction has been
+ * forgotten, puts stamped before it are dropped for every employee.
+ */
+public class LruEmployeeCache implements EmployeeCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<Integer, Entry> entries;
+    private final LinkedHashMap<Integer, Long> evictedAt;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long stamp;
+    private long forgottenBefore;
+
+    public LruEmployeeCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    LruEmployeeCache(int maxSize, Duration ttl, Clock clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.evictedAt = new LinkedHashMap<>();
+    }
+
+    @Override
+    public synchronized Optional<EmployeeDTO> get(int employeeId) {
+        Entry entry = entries.get(employeeId);
+        if (entry != null && isExpired(entry)) {
+            entries.remove(employeeId);
+            evictionCount++;
+            entry = null;
+        }
+        if (entry == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(entry.employeeDTO);
+    }
+
+    @Override
+    public synchronized long stamp() {
+        return stamp;
+    }
+
+    @Override
+    public synchronized void put(int employeeId, EmployeeDTO employeeDTO, long stamp) {
+        if (stamp < forgottenBefore || stamp < evictedAt.getOrDefault(employeeId, 0L)) {
+            return;
+        }
+        entries.put(employeeId, new Entry(employeeDTO, clock.millis()));
+        Iterator<Map.Entry<Integer, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize) {
+            eldest.next();
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    @Override
+    public synchronized void evict(int employeeId) {
+        entries.remove(employeeId);
+        evictedAt.remove(employeeId);
+        evictedAt.put(employeeId, ++stamp);
+        Iterator<Long> eldest = evictedAt.values().iterator();
+        while (evictedAt.size() > maxSize) {
+            forgottenBefore = Math.max(forgottenBefore, eldest.next());
+            eldest.remove();
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        evictedAt.clear();
+        forgottenBefore = ++stamp;
+    }
+
+    @Override
+    public synchronized long size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized long hitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public synchronized long missCount() {
+        return missCount;
+    }
+
+    @Override
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    private boolean isExpired(Entry entry) {
+        return clock.millis() - entry.createdAt >= ttlMillis;
+    }
+
+    private static final class Entry {
+
+        private final EmployeeDTO employeeDTO;
+        private final long createdAt;
+
+        private Entry(EmployeeDTO employeeDTO, long createdAt) {
+            this.employeeDTO = employeeDTO;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -2,17 +2,22 @@ package com.employee.internal;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
-import javax.persistence.*;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.io.Serializable;
 
 @Entity
 @Table(name = "NOTE")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfiguration.NOTE_REGION)
 public class Note implements Serializable {
 
     private static final long serialVersionUID = 432789457849L;
 
     @Id
-    @GeneratedValue(strategy=GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator = "noteSequence")
+    @SequenceGenerator(name = "noteSequence", sequenceName = "NOTE_SEQ", allocationSize = 50)
     @Column(name = "NOTE_ID")
     private Integer noteId;
 
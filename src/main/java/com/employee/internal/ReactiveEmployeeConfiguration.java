@@ -0,0 +1,55 @@
+package com.employee.internal;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+// The connection pool is deliberately not a bean: a ConnectionFactory bean in the
+// context makes Boot back off from creating the JDBC DataSource that JPA runs on.
+@Configuration
+class ReactiveEmployeeConfiguration {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    DatabaseClient employeeDatabaseClient(
+            @Value("${employee.r2dbc.url}") String url,
+            @Value("${employee.r2dbc.username:sa}") String username,
+            @Value("${employee.r2dbc.password:}") String password,
+            @Value("${employee.r2dbc.pool.max-size:10}") int maxSize,
+            @Value("${employee.r2dbc.pool.max-acquire-time:10s}") Duration maxAcquireTime
+    ) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        // r2dbc-h2 runs each query on the thread that subscribes to it. By default the pool opens
+        // connections on one shared thread and hands a released connection to the next waiting
+        // read on the releasing thread, so under load reads ran one after another on those threads
+        // instead of side by side. Both now happen on the bounded elastic scheduler instead.
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .allocatorSubscribeOn(Schedulers.boundedElastic())
+                .customizer(pool -> pool.acquisitionScheduler(Schedulers.boundedElastic()))
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
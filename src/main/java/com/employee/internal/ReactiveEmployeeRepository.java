@@ -0,0 +1,67 @@
+package com.employee.internal;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Repository
+class ReactiveEmployeeRepository {
+
+    // Notes are joined onto their employee and folded back together while streaming,
+    // so a read holds a single pooled connection from start to finish.
+    private static final String SELECT_EMPLOYEE_WITH_NOTES =
+            "SELECT e.EMPLOYEE_ID, e.FIRST_NAME, e.LAST_NAME, e.EMAIL_ADDRESS, n.NOTE_ID, n.TEXT "
+                    + "FROM EMPLOYEE e LEFT JOIN NOTE n ON n.EMPLOYEE_ID = e.EMPLOYEE_ID";
+
+    private final DatabaseClient databaseClient;
+
+    ReactiveEmployeeRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    Flux<EmployeeRow> findAllWithNotes() {
+        return group(databaseClient
+                .sql(SELECT_EMPLOYEE_WITH_NOTES + " ORDER BY e.EMPLOYEE_ID, n.NOTE_ID")
+                .map(ReactiveEmployeeRepository::toRow)
+                .all());
+    }
+
+    Mono<EmployeeRow> findWithNotesById(int employeeId) {
+        return group(databaseClient
+                .sql(SELECT_EMPLOYEE_WITH_NOTES + " WHERE e.EMPLOYEE_ID = :id ORDER BY n.NOTE_ID")
+                .bind("id", employeeId)
+                .map(ReactiveEmployeeRepository::toRow)
+                .all())
+                .next();
+    }
+
+    private static Flux<EmployeeRow> group(Flux<EmployeeRow> rows) {
+        return rows
+                .bufferUntilChanged(EmployeeRow::getEmployeeId)
+                .map(ReactiveEmployeeRepository::merge);
+    }
+
+    private static EmployeeRow merge(List<EmployeeRow> rows) {
+        EmployeeRow employee = rows.get(0);
+        for (int i = 1; i < rows.size(); i++) {
+            employee.getNotes().addAll(rows.get(i).getNotes());
+        }
+        return employee;
+    }
+
+    private static EmployeeRow toRow(Readable row) {
+        EmployeeRow employee = new EmployeeRow();
+        employee.setEmployeeId(row.get("EMPLOYEE_ID", Integer.class));
+        employee.setFirstName(row.get("FIRST_NAME", String.class));
+        employee.setLastName(row.get("LAST_NAME", String.class));
+        employee.setEmailAddress(row.get("EMAIL_ADDRESS", String.class));
+        if (row.get("NOTE_ID", Integer.class) != null) {
+            employee.getNotes().add(row.get("TEXT", String.class));
+        }
+        return employee;
+    }
+}
@@ -0,0 +1,36 @@
+package com.employee.internal;
+
+import com.employee.api.behavior.ReactiveFindEmployee;
+import com.employee.api.behavior.ReactiveFindEmployees;
+import com.employee.api.model.EmployeeDTO;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveEmployeeService implements
+        ReactiveFindEmployees,
+        ReactiveFindEmployee {
+
+    private final ReactiveEmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+
+    ReactiveEmployeeService(ReactiveEmployeeRepository employeeRepository, EmployeeMapper employeeMapper) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+    }
+
+    @Override
+    public Flux<EmployeeDTO> findEmployees() {
+        return employeeRepository
+                .findAllWithNotes()
+                .map(employeeMapper::toDTO);
+    }
+
+    @Override
+    public Mono<EmployeeDTO> findEmployee(int employeeId) {
+        return employeeRepository
+                .findWithNotesById(employeeId)
+                .map(employeeMapper::toDTO);
+    }
+}
@@ -0,0 +1,51 @@
+package com.employee.internal;
+
+/**
+ * Immutable, compact copy of one employee held by {@link EmployeeReplica}.
+ * Notes are kept as a plain array and first and last names are interned,
+ * since the same names recur across many employees.
+ */
+final class ReplicaEmployee {
+
+    private static final String[] NO_NOTES = new String[0];
+
+    private final int employeeId;
+    private final String firstName;
+    private final String lastName;
+    private final String emailAddress;
+    private final String[] notes;
+    private final long version;
+
+    ReplicaEmployee(int employeeId, String firstName, String lastName, String emailAddress, String[] notes, long version) {
+        this.employeeId = employeeId;
+        this.firstName = firstName == null ? null : firstName.intern();
+        this.lastName = lastName == null ? null : lastName.intern();
+        this.emailAddress = emailAddress;
+        this.notes = notes.length == 0 ? NO_NOTES : notes;
+        this.version = version;
+    }
+
+    int getEmployeeId() {
+        return employeeId;
+    }
+
+    String getFirstName() {
+        return firstName;
+    }
+
+    String getLastName() {
+        return lastName;
+    }
+
+    String getEmailAddress() {
+        return emailAddress;
+    }
+
+    String[] getNotes() {
+        return notes;
+    }
+
+    long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,106 @@
+package com.employee.internal;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.observation.boot.autoconfigure.DataSourceObservationBeanPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces Boot's DataSource with one that routes read-only transactions
+ * to the replicas in {@code employee.datasource.replicas.urls} (see
+ * {@link ReplicaRoutingDataSource}). Enabled with
+ * {@code employee.datasource.replicas.enabled=true}.
+ *
+ * The primary is built from {@code spring.datasource.*} as Boot would build
+ * it. Each replica gets a pool of its own with the same
+ * {@code spring.datasource.hikari.*} settings, except for a shorter
+ * connection timeout, so that an unreachable replica is given up on quickly
+ * in favour of the primary.
+ *
+ * JDBC observation reads each new connection's metadata, which would make
+ * the lazy proxy pick a connection before the transaction is marked
+ * read-only. So the routing DataSource is left out of it
+ * ({@code jdbc.excluded-data-source-bean-names}) and each pool behind it
+ * is observed instead, which also tags {@code jdbc.query} by pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.datasource.replicas.enabled", havingValue = "true")
+class ReplicaRoutingConfiguration {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    DataSource replicaRoutingDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            ObjectProvider<DataSourceObservationBeanPostProcessor> observation,
+            @Value("${employee.datasource.replicas.urls}") List<String> replicaUrls,
+            @Value("${employee.datasource.replicas.username:${spring.datasource.username:sa}}") String username,
+            @Value("${employee.datasource.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${employee.datasource.replicas.connection-timeout:1s}") Duration connectionTimeout,
+            @Value("${employee.datasource.replicas.max-lag:1s}") Duration maxLag,
+            @Value("${employee.datasource.replicas.health-check-interval:5s}") Duration healthCheckInterval
+    ) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+        primary.setMetricRegistry(meterRegistry);
+
+        DataSource observedPrimary = observed(observation, primary, "dataSource");
+
+        List<DataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setPoolName("employee-replica-" + (i + 1));
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setMetricRegistry(meterRegistry);
+            replicas.add(observed(observation, replica, replica.getPoolName()));
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(observedPrimary, replicas, maxLag, meterRegistry);
+        routing.startHealthChecks(healthCheckInterval);
+        return new ClosingLazyConnectionDataSourceProxy(routing);
+    }
+
+    private static DataSource observed(ObjectProvider<DataSourceObservationBeanPostProcessor> observation,
+                                       DataSource dataSource, String name) {
+        DataSourceObservationBeanPostProcessor postProcessor = observation.getIfAvailable();
+        return postProcessor == null ? dataSource : (DataSource) postProcessor.postProcessAfterInitialization(dataSource, name);
+    }
+
+    // Closing the context closes the pools behind the proxy and stops the health checks.
+    private static final class ClosingLazyConnectionDataSourceProxy extends LazyConnectionDataSourceProxy implements Closeable {
+
+        private final ReplicaRoutingDataSource routing;
+
+        private ClosingLazyConnectionDataSourceProxy(ReplicaRoutingDataSource routing) {
+            super(routing);
+            this.routing = routing;
+        }
+
+        @Override
+        public void close() {
+            routing.close();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.employee.internal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends read-only transactions to the replicas, in turn, and everything
+ * else to the primary: read-write transactions, and work done outside a
+ * transaction, which may write. It sits behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so that the connection is only chosen at the first statement, once the
+ * transaction's read-only flag has been set.
+ *
+ * For {@code maxLag} after a read-write transaction commits, reads go to
+ * the primary too. That gives every caller, and the caches filled from
+ * those reads, the writes made through this instance, as long as the
+ * replicas are no further behind than {@code maxLag}. The window is kept
+ * for the whole instance, not per client: one write sends every caller's
+ * reads to the primary until it passes, so steady writes keep the replicas
+ * idle. Those reads are counted under {@code route=recent-write}.
+ *
+ * A replica that fails a health check, or fails to hand out a connection
+ * with a non-transient error, is skipped until a later check finds it
+ * working again. A transient error, such as the pool timing out while all
+ * its connections are busy, only moves that read on to the next replica.
+ * With no replica available, reads fall back to the primary.
+ */
+class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final Clock clock;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong lastWriteMillis;
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter recentWriteConnections;
+    private final Counter fallbackConnections;
+
+    private ScheduledExecutorService healthChecks;
+
+    ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag, MeterRegistry meterRegistry) {
+        this(primary, replicas, maxLag, meterRegistry, Clock.systemUTC());
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag, MeterRegistry meterRegistry, Clock clock) {
+        this.primary = primary;
+        replicas.forEach(replica -> this.replicas.add(new Replica(replica)));
+        this.maxLagMillis = maxLag.toMillis();
+        this.clock = clock;
+        this.lastWriteMillis = new AtomicLong(clock.millis() - maxLagMillis);
+        this.primaryConnections = connectionCounter(meterRegistry, "primary");
+        this.replicaConnections = connectionCounter(meterRegistry, "replica");
+        this.recentWriteConnections = connectionCounter(meterRegistry, "recent-write");
+        this.fallbackConnections = connectionCounter(meterRegistry, "fallback");
+        Gauge.builder("employee.datasource.replicas.healthy", this.replicas,
+                        all -> all.stream().filter(replica -> replica.healthy).count())
+                .description("Replicas that read-only transactions are currently sent to")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        lastWriteMillis.accumulateAndGet(clock.millis(), Math::max);
+                    }
+                });
+            }
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+        if (clock.millis() - lastWriteMillis.get() < maxLagMillis) {
+            recentWriteConnections.increment();
+            return primary.getConnection();
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLTransientException e) {
+                // Usually a busy pool timing out. This read moves on, and the health check decides.
+            } catch (SQLException | RuntimeException e) {
+                replica.healthy = false;
+            }
+        }
+        fallbackConnections.increment();
+        return primary.getConnection();
+    }
+
+    // Credentials are configured per pool; a caller cannot pick them per connection.
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Connections are routed between pools with their own credentials");
+    }
+
+    // Runs checkReplicas every interval on a background thread until close.
+    synchronized void startHealthChecks(Duration interval) {
+        healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            replica.healthy = isValid(replica.dataSource);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (healthChecks != null) {
+            healthChecks.shutdownNow();
+        }
+        replicas.forEach(replica -> closeQuietly(replica.dataSource));
+        closeQuietly(primary);
+    }
+
+    private static boolean isValid(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ignored) {
+                // Shutting down; nothing more can be done about a pool that fails to close.
+            }
+        }
+    }
+
+    private static Counter connectionCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("employee.datasource.connections")
+                .description("Connections handed out, by where they were routed; recent-write and fallback are reads sent to the primary")
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.employee.internal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one load per key at a time. The first caller for a key runs
+ * the load on its own thread; callers that ask for the same key while it is
+ * running wait for it and get the same result, or the same exception,
+ * instead of running the load again.
+ *
+ * A waiting caller gives up after {@code timeout} with a
+ * {@link QueryTimeoutException}; the load itself carries on for the caller
+ * that started it. Nothing is kept once a load completes, so a caller that
+ * arrives afterwards starts a new one.
+ */
+class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final Counter led;
+    private final Counter joined;
+
+    SingleFlight(String behavior, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeoutMillis = timeout.toMillis();
+        this.led = flightCounter(meterRegistry, behavior, "led");
+        this.joined = flightCounter(meterRegistry, behavior, "joined");
+    }
+
+    V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            joined.increment();
+            return await(key, running);
+        }
+        led.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private V await(K key, CompletableFuture<V> flight) {
+        try {
+            return flight.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Timed out after " + timeoutMillis + " ms waiting for the load of " + key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the load of " + key, e);
+        }
+    }
+
+    private static Counter flightCounter(MeterRegistry meterRegistry, String behavior, String result) {
+        return Counter.builder("employee.single.flight")
+                .description("Calls that ran a database load (led) or shared one already running (joined)")
+                .tag("behavior", behavior)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,28 +1,62 @@
+DROP TABLE IF EXISTS EMPLOYEE_CHANGE;
+DROP TABLE IF EXISTS EMPLOYEE_CHANGE_COUNTER;
 DROP TABLE IF EXISTS NOTE;
 DROP TABLE IF EXISTS EMPLOYEE;
+DROP SEQUENCE IF EXISTS NOTE_SEQ;
+DROP SEQUENCE IF EXISTS EMPLOYEE_SEQ;
+
+CREATE SEQUENCE EMPLOYEE_SEQ START WITH 5 INCREMENT BY 50;
+CREATE SEQUENCE NOTE_SEQ START WITH 5 INCREMENT BY 50;
 
 CREATE TABLE EMPLOYEE (
-EMPLOYEE_ID INT NOT NULL AUTO_INCREMENT,
+EMPLOYEE_ID INT DEFAULT NEXT VALUE FOR EMPLOYEE_SEQ NOT NULL,
 FIRST_NAME VARCHAR(255) NOT NULL,
 LAST_NAME VARCHAR(255) NOT NULL,
 EMAIL_ADDRESS VARCHAR(255) NOT NULL,
+FIRST_NAME_LOWER VARCHAR(255) GENERATED ALWAYS AS (LOWER(FIRST_NAME)),
+LAST_NAME_LOWER VARCHAR(255) GENERATED ALWAYS AS (LOWER(LAST_NAME)),
+EMAIL_ADDRESS_LOWER VARCHAR(255) GENERATED ALWAYS AS (LOWER(EMAIL_ADDRESS)),
+VERSION BIGINT DEFAULT 0 NOT NULL,
 PRIMARY KEY (EMPLOYEE_ID)
 );
 
+CREATE INDEX EMPLOYEE_FIRST_NAME_LOWER_IDX ON EMPLOYEE (FIRST_NAME_LOWER, EMPLOYEE_ID);
+CREATE INDEX EMPLOYEE_LAST_NAME_LOWER_IDX ON EMPLOYEE (LAST_NAME_LOWER, EMPLOYEE_ID);
+CREATE INDEX EMPLOYEE_EMAIL_ADDRESS_LOWER_IDX ON EMPLOYEE (EMAIL_ADDRESS_LOWER, EMPLOYEE_ID);
+
 CREATE TABLE NOTE (
-NOTE_ID INT NOT NULL AUTO_INCREMENT,
+NOTE_ID INT DEFAULT NEXT VALUE FOR NOTE_SEQ NOT NULL,
 EMPLOYEE_ID INT NOT NULL,
 TEXT VARCHAR(255) DEFAULT NULL,
 PRIMARY KEY (NOTE_ID),
 FOREIGN KEY (EMPLOYEE_ID) REFERENCES EMPLOYEE (EMPLOYEE_ID)
 );
 
-INSERT INTO EMPLOYEE (FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) VALUES ('Dennis', 'Kalaygian', 'dennis@gmail.com');
-INSERT INTO EMPLOYEE (FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) VALUES ('Jeremy', 'Gencavage', 'jeremy@gmail.com');
-INSERT INTO EMPLOYEE (FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) VALUES ('Lynn', 'Johnson', 'lynn@gmail.com');
-INSERT INTO EMPLOYEE (FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) VALUES ('K', 'T', 'KT.gmail.com');
+-- Append-only log of writes to EMPLOYEE and NOTE. Sequence numbers are handed out
+-- from the single counter row, whose lock is held until the writing transaction
+-- ends, so they become visible in order and a reader never skips one.
+CREATE TABLE EMPLOYEE_CHANGE (
+SEQUENCE_NUMBER BIGINT NOT NULL,
+EMPLOYEE_ID INT NOT NULL,
+CHANGE_TYPE VARCHAR(16) NOT NULL,
+CHANGED_AT TIMESTAMP WITH TIME ZONE NOT NULL,
+PRIMARY KEY (SEQUENCE_NUMBER)
+);
+
+CREATE TABLE EMPLOYEE_CHANGE_COUNTER (
+ID INT NOT NULL,
+LAST_SEQUENCE_NUMBER BIGINT NOT NULL,
+PRIMARY KEY (ID)
+);
+
+INSERT INTO EMPLOYEE_CHANGE_COUNTER (ID, LAST_SEQUENCE_NUMBER) VALUES (1, 0);
+
+INSERT INTO EMPLOYEE (EMPLOYEE_ID, FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) VALUES (1, 'Dennis', 'Kalaygian', 'dennis@gmail.com');
+INSERT INTO EMPLOYEE (EMPLOYEE_ID, FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) VALUES (2, 'Jeremy', 'Gencavage', 'jeremy@gmail.com');
+INSERT INTO EMPLOYEE (EMPLOYEE_ID, FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) VALUES (3, 'Lynn', 'Johnson', 'lynn@gmail.com');
+INSERT INTO EMPLOYEE (EMPLOYEE_ID, FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) VALUES (4, 'K', 'T', 'KT.gmail.com');
 
-INSERT INTO NOTE (EMPLOYEE_ID, TEXT) VALUES (1, 'I eat trash on the beach for fun.');
-INSERT INTO NOTE (EMPLOYEE_ID, TEXT) VALUES (2, 'I am lost in space.');
-INSERT INTO NOTE (EMPLOYEE_ID, TEXT) VALUES (3, 'I am in route.');
-INSERT INTO NOTE (EMPLOYEE_ID, TEXT) VALUES (4, 'You are lost in space.');
+INSERT INTO NOTE (NOTE_ID, EMPLOYEE_ID, TEXT) VALUES (1, 1, 'I eat trash on the beach for fun.');
+INSERT INTO NOTE (NOTE_ID, EMPLOYEE_ID, TEXT) VALUES (2, 2, 'I am lost in space.');
+INSERT INTO NOTE (NOTE_ID, EMPLOYEE_ID, TEXT) VALUES (3, 3, 'I am in route.');
+INSERT INTO NOTE (NOTE_ID, EMPLOYEE_ID, TEXT) VALUES (4, 4, 'You are lost in space.');
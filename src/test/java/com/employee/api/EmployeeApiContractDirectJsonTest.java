@@ -0,0 +1,12 @@
+package com.employee.api;
+
+import com.Main;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Runs every API contract test again with EmployeeJsonHttpMessageConverter
+ * writing the employee responses instead of Jackson.
+ */
+@SpringBootTest(classes = Main.class, properties = "employee.json.direct-writer.enabled=true")
+public class EmployeeApiContractDirectJsonTest extends EmployeeApiContractTest {
+}
@@ -0,0 +1,44 @@
+package com.employee.api;
+
+import com.Main;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs every API contract test again with the performance profile on top of
+ * the H2 profile, and checks that its pool and statement cache settings
+ * reach Hikari and the database.
+ */
+// A database of its own: H2 only applies QUERY_CACHE_SIZE when the database is opened.
+@SpringBootTest(classes = Main.class, properties = "spring.datasource.url=jdbc:h2:mem:performance")
+@ActiveProfiles({"h2", "performance"})
+public class EmployeeApiContractPerformanceProfileTest extends EmployeeApiContractTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void performanceProfile_shouldSizeThePoolAndStatementCache() throws Exception {
+        // Act
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        String queryCacheSize = jdbcTemplate.queryForObject(
+                "SELECT SETTING_VALUE FROM INFORMATION_SCHEMA.SETTINGS WHERE SETTING_NAME = 'QUERY_CACHE_SIZE'",
+                String.class);
+
+        // Assert
+        assertEquals(16, hikari.getMaximumPoolSize());
+        assertEquals(16, hikari.getMinimumIdle());
+        assertEquals("64", queryCacheSize);
+    }
+}
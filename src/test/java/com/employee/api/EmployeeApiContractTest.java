@@ -123,7 +123,7 @@ public class EmployeeApiContractTest {
         var employee = createAndSaveEmployee();
 
         mockMvc.perform(delete("/api/employees/{id}", employee.getEmployeeId()))
-                .andExpect(status().isOk());
+                .andExpect(status().isNoContent());
     }
 
     // ========== URL PATTERN TESTS ==========
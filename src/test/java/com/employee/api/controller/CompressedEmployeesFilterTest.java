@@ -0,0 +1,36 @@
+package com.employee.api.controller;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the request checks in CompressedEmployeesFilter.
+ *
+ * These tests verify which Accept-Encoding and Accept headers let a
+ * request be answered from the compressed cache.
+ */
+public class CompressedEmployeesFilterTest {
+
+    @Test
+    public void acceptsGzip_shouldHonourCodingsAndZeroQuality() {
+        // Act & Assert
+        assertTrue(CompressedEmployeesFilter.acceptsGzip("gzip"));
+        assertTrue(CompressedEmployeesFilter.acceptsGzip("br, GZIP;q=0.5, deflate"));
+        assertTrue(CompressedEmployeesFilter.acceptsGzip("*"));
+        assertFalse(CompressedEmployeesFilter.acceptsGzip(null));
+        assertFalse(CompressedEmployeesFilter.acceptsGzip("br, deflate"));
+        assertFalse(CompressedEmployeesFilter.acceptsGzip("gzip;q=0"));
+        assertFalse(CompressedEmployeesFilter.acceptsGzip("gzip; q=0.000"));
+    }
+
+    @Test
+    public void prefersJson_shouldFollowTheMostPreferredType() {
+        // Act & Assert
+        assertTrue(CompressedEmployeesFilter.prefersJson(null));
+        assertTrue(CompressedEmployeesFilter.prefersJson("*/*"));
+        assertTrue(CompressedEmployeesFilter.prefersJson("application/json, text/plain, */*"));
+        assertFalse(CompressedEmployeesFilter.prefersJson("application/x-jackson-smile"));
+        assertFalse(CompressedEmployeesFilter.prefersJson("application/x-jackson-smile, */*;q=0.1"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.BulkCreateEmployees;
+import com.employee.api.behavior.BulkDeleteEmployees;
+import com.employee.api.behavior.BulkUpdateEmployees;
+import com.employee.api.model.BulkItemResultDTO;
+import com.employee.api.model.BulkItemStatus;
+import com.employee.api.model.EmployeeDTO;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeBatchController.
+ *
+ * These tests verify that each batch endpoint delegates to its bulk
+ * behavior and returns the per-item results unchanged.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmployeeBatchControllerTest {
+
+    @Mock
+    private BulkCreateEmployees bulkCreateEmployees;
+
+    @Mock
+    private BulkUpdateEmployees bulkUpdateEmployees;
+
+    @Mock
+    private BulkDeleteEmployees bulkDeleteEmployees;
+
+    private EmployeeBatchController controller;
+
+    @Before
+    public void setUp() {
+        controller = new EmployeeBatchController(
+                bulkCreateEmployees,
+                bulkUpdateEmployees,
+                bulkDeleteEmployees
+        );
+    }
+
+    @Test
+    public void createEmployees_shouldReturnResultsFromBehavior() {
+        // Arrange
+        List<EmployeeDTO> employeeDTOs = Collections.singletonList(new EmployeeDTO());
+        List<BulkItemResultDTO> results = Collections.singletonList(
+                new BulkItemResultDTO(0, 10, BulkItemStatus.CREATED, null));
+        when(bulkCreateEmployees.createEmployees(employeeDTOs)).thenReturn(results);
+
+        // Act
+        ResponseEntity<List<BulkItemResultDTO>> response = controller.createEmployees(employeeDTOs);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(results, response.getBody());
+    }
+
+    @Test
+    public void updateEmployees_shouldReturnResultsFromBehavior() {
+        // Arrange
+        List<EmployeeDTO> employeeDTOs = Collections.singletonList(new EmployeeDTO());
+        List<BulkItemResultDTO> results = Collections.singletonList(
+                new BulkItemResultDTO(0, 10, BulkItemStatus.UPDATED, null));
+        when(bulkUpdateEmployees.updateEmployees(employeeDTOs)).thenReturn(results);
+
+        // Act
+        ResponseEntity<List<BulkItemResultDTO>> response = controller.updateEmployees(employeeDTOs);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(results, response.getBody());
+    }
+
+    @Test
+    public void deleteEmployees_shouldCallBehaviorWithIds() {
+        // Arrange
+        List<Integer> employeeIds = Arrays.asList(1, 2);
+        when(bulkDeleteEmployees.deleteEmployees(employeeIds)).thenReturn(Collections.emptyList());
+
+        // Act
+        ResponseEntity<List<BulkItemResultDTO>> response = controller.deleteEmployees(employeeIds);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(bulkDeleteEmployees, times(1)).deleteEmployees(employeeIds);
+    }
+}
@@ -0,0 +1,90 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.FindEmployeeChanges;
+import com.employee.api.behavior.StreamEmployeeChanges;
+import com.employee.api.model.EmployeeChangeDTO;
+import com.employee.api.model.EmployeeChangeType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeChangeController.
+ *
+ * These tests verify that the polling endpoint returns the changes from
+ * its behavior and that the stream resumes from Last-Event-ID when a
+ * client reconnects.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmployeeChangeControllerTest {
+
+    @Mock
+    private FindEmployeeChanges findEmployeeChanges;
+
+    @Mock
+    private StreamEmployeeChanges streamEmployeeChanges;
+
+    private EmployeeChangeController controller;
+
+    @Before
+    public void setUp() {
+        controller = new EmployeeChangeController(findEmployeeChanges, streamEmployeeChanges);
+    }
+
+    @Test
+    public void findEmployeeChanges_shouldReturnChangesFromBehavior() {
+        // Arrange
+        EmployeeChangeDTO change = new EmployeeChangeDTO();
+        change.setSequenceNumber(6);
+        change.setEmployeeID(1);
+        change.setChangeType(EmployeeChangeType.UPDATED);
+        List<EmployeeChangeDTO> changes = Collections.singletonList(change);
+        when(findEmployeeChanges.findEmployeeChanges(5, 100)).thenReturn(changes);
+
+        // Act
+        ResponseEntity<List<EmployeeChangeDTO>> response = controller.findEmployeeChanges(5, 100);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(changes, response.getBody());
+    }
+
+    @Test
+    public void streamEmployeeChanges_withoutLastEventId_shouldStartFromSince() {
+        // Arrange
+        when(streamEmployeeChanges.streamEmployeeChanges(anyLong(), any())).thenReturn(() -> { });
+
+        // Act
+        SseEmitter emitter = controller.streamEmployeeChanges(5, null);
+
+        // Assert
+        assertNotNull(emitter);
+        verify(streamEmployeeChanges, times(1)).streamEmployeeChanges(eq(5L), any());
+    }
+
+    @Test
+    public void streamEmployeeChanges_withLastEventId_shouldResumeFromIt() {
+        // Arrange
+        when(streamEmployeeChanges.streamEmployeeChanges(anyLong(), any())).thenReturn(() -> { });
+
+        // Act
+        controller.streamEmployeeChanges(0, 42L);
+
+        // Assert
+        verify(streamEmployeeChanges, times(1)).streamEmployeeChanges(eq(42L), any());
+    }
+}
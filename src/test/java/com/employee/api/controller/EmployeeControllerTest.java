@@ -1,18 +1,24 @@
 package com.employee.api.controller;
 
 import com.employee.api.behavior.*;
+import com.employee.api.model.EmployeeCreationDTO;
+import com.employee.api.model.EmployeeCreationStatus;
 import com.employee.api.model.EmployeeDTO;
+import com.employee.api.model.EmployeePageDTO;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,15 +43,30 @@ public class EmployeeControllerTest {
     @Mock
     private FindEmployee findEmployee;
 
+    @Mock
+    private FindEmployeeVersion findEmployeeVersion;
+
     @Mock
     private FindEmployees findEmployees;
 
+    @Mock
+    private FindEmployeesVersion findEmployeesVersion;
+
+    @Mock
+    private FindEmployeesPage findEmployeesPage;
+
+    @Mock
+    private SearchEmployees searchEmployees;
+
     @Mock
     private UpdateEmployee updateEmployee;
 
     @Mock
     private DeleteEmployee deleteEmployee;
 
+    @Mock
+    private EnqueueEmployee enqueueEmployee;
+
     private EmployeeController controller;
 
     private EmployeeDTO sampleEmployeeDTO;
@@ -55,9 +76,14 @@ public class EmployeeControllerTest {
         controller = new EmployeeController(
                 createEmployee,
                 findEmployee,
+                findEmployeeVersion,
                 findEmployees,
+                findEmployeesVersion,
+                findEmployeesPage,
+                searchEmployees,
                 updateEmployee,
-                deleteEmployee
+                deleteEmployee,
+                Optional.empty()
         );
 
         sampleEmployeeDTO = createSampleEmployeeDTO(1, "John", "Doe", "john.doe@example.com");
@@ -89,6 +115,51 @@ public class EmployeeControllerTest {
         verify(createEmployee, times(1)).createEmployee(sampleEmployeeDTO);
     }
 
+    @Test
+    public void createEmployee_inWriteBehindMode_shouldReturnAcceptedWithStatusLocation() {
+        // Arrange
+        controller = writeBehindController();
+        EmployeeCreationDTO creation = new EmployeeCreationDTO("abc", EmployeeCreationStatus.QUEUED, null, null);
+        when(enqueueEmployee.enqueueEmployee(sampleEmployeeDTO)).thenReturn(Optional.of(creation));
+
+        // Act
+        ResponseEntity<?> response = controller.createEmployee(sampleEmployeeDTO);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("/api/employees/creations/abc", response.getHeaders().getLocation().toString());
+        assertSame(creation, response.getBody());
+        verify(createEmployee, never()).createEmployee(any(EmployeeDTO.class));
+    }
+
+    @Test
+    public void createEmployee_inWriteBehindModeWithFullQueue_shouldReturnTooManyRequests() {
+        // Arrange
+        controller = writeBehindController();
+        when(enqueueEmployee.enqueueEmployee(sampleEmployeeDTO)).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<?> response = controller.createEmployee(sampleEmployeeDTO);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    public void createEmployee_inWriteBehindModeWithInvalidEmployee_shouldReturnBadRequest() {
+        // Arrange
+        controller = writeBehindController();
+        when(enqueueEmployee.enqueueEmployee(sampleEmployeeDTO)).thenThrow(new IllegalArgumentException("lastName is required"));
+
+        // Act
+        ResponseEntity<?> response = controller.createEmployee(sampleEmployeeDTO);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(createEmployee, never()).createEmployee(any(EmployeeDTO.class));
+    }
+
     // ========== FIND ALL EMPLOYEES TESTS ==========
 
     @Test
@@ -97,7 +168,7 @@ public class EmployeeControllerTest {
         when(findEmployees.findEmployees()).thenReturn(Collections.emptyList());
 
         // Act
-        ResponseEntity<List<EmployeeDTO>> response = controller.findEmployees();
+        ResponseEntity<List<EmployeeDTO>> response = controller.findEmployees(null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -113,7 +184,7 @@ public class EmployeeControllerTest {
         when(findEmployees.findEmployees()).thenReturn(expectedEmployees);
 
         // Act
-        ResponseEntity<List<EmployeeDTO>> response = controller.findEmployees();
+        ResponseEntity<List<EmployeeDTO>> response = controller.findEmployees(null);
 
         // Assert
         assertEquals(2, response.getBody().size());
@@ -126,12 +197,96 @@ public class EmployeeControllerTest {
         when(findEmployees.findEmployees()).thenReturn(Collections.emptyList());
 
         // Act
-        ResponseEntity<List<EmployeeDTO>> response = controller.findEmployees();
+        ResponseEntity<List<EmployeeDTO>> response = controller.findEmployees(null);
 
         // Assert
         assertTrue(response.getBody().isEmpty());
     }
 
+    @Test
+    public void findEmployees_shouldSetETagFromCollectionVersion() {
+        // Arrange
+        when(findEmployeesVersion.findEmployeesVersion()).thenReturn("abc-7");
+        when(findEmployees.findEmployees()).thenReturn(Collections.emptyList());
+
+        // Act
+        ResponseEntity<List<EmployeeDTO>> response = controller.findEmployees(null);
+
+        // Assert
+        assertEquals("\"abc-7\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    public void findEmployees_withMatchingIfNoneMatch_shouldReturnNotModifiedWithoutLoading() {
+        // Arrange
+        when(findEmployeesVersion.findEmployeesVersion()).thenReturn("abc-7");
+
+        // Act
+        ResponseEntity<List<EmployeeDTO>> response = controller.findEmployees("\"abc-7\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verifyNoInteractions(findEmployees);
+    }
+
+    // ========== FIND EMPLOYEES PAGE TESTS ==========
+
+    @Test
+    public void findEmployeesPage_shouldReturnOkStatus() {
+        // Arrange
+        when(findEmployeesPage.findEmployeesPage(null, 10)).thenReturn(new EmployeePageDTO());
+
+        // Act
+        ResponseEntity<EmployeePageDTO> response = controller.findEmployeesPage(null, 10);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    @Test
+    public void findEmployeesPage_shouldPassCursorAndLimitToBehavior() {
+        // Arrange
+        EmployeePageDTO page = new EmployeePageDTO();
+        page.setEmployees(Collections.singletonList(sampleEmployeeDTO));
+        page.setNextCursor(1);
+        when(findEmployeesPage.findEmployeesPage(0, 1)).thenReturn(page);
+
+        // Act
+        ResponseEntity<EmployeePageDTO> response = controller.findEmployeesPage(0, 1);
+
+        // Assert
+        verify(findEmployeesPage, times(1)).findEmployeesPage(0, 1);
+        assertSame(page, response.getBody());
+    }
+
+    // ========== SEARCH EMPLOYEES TESTS ==========
+
+    @Test
+    public void searchEmployees_shouldPassQueryCursorAndLimitToBehavior() {
+        // Arrange
+        EmployeePageDTO page = new EmployeePageDTO();
+        page.setEmployees(Collections.singletonList(sampleEmployeeDTO));
+        when(searchEmployees.searchEmployees("jo", 5, 10)).thenReturn(page);
+
+        // Act
+        ResponseEntity<EmployeePageDTO> response = controller.searchEmployees("jo", 5, 10);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(page, response.getBody());
+    }
+
+    @Test
+    public void searchEmployees_withBlankQuery_shouldReturnBadRequest() {
+        // Act
+        ResponseEntity<EmployeePageDTO> response = controller.searchEmployees("  ", null, 10);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(searchEmployees);
+    }
+
     // ========== FIND EMPLOYEE BY ID TESTS ==========
 
     @Test
@@ -140,7 +295,7 @@ public class EmployeeControllerTest {
         when(findEmployee.findEmployee(1)).thenReturn(sampleEmployeeDTO);
 
         // Act
-        ResponseEntity<EmployeeDTO> response = controller.findEmployee(1);
+        ResponseEntity<EmployeeDTO> response = controller.findEmployee(1, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -152,7 +307,7 @@ public class EmployeeControllerTest {
         when(findEmployee.findEmployee(1)).thenReturn(sampleEmployeeDTO);
 
         // Act
-        ResponseEntity<EmployeeDTO> response = controller.findEmployee(1);
+        ResponseEntity<EmployeeDTO> response = controller.findEmployee(1, null);
 
         // Assert
         assertEquals(sampleEmployeeDTO, response.getBody());
@@ -166,12 +321,54 @@ public class EmployeeControllerTest {
         when(findEmployee.findEmployee(employeeId)).thenReturn(sampleEmployeeDTO);
 
         // Act
-        controller.findEmployee(employeeId);
+        controller.findEmployee(employeeId, null);
 
         // Assert
         verify(findEmployee, times(1)).findEmployee(employeeId);
     }
 
+    @Test
+    public void findEmployee_shouldSetETagFromVersion() {
+        // Arrange
+        sampleEmployeeDTO.setVersion(3L);
+        when(findEmployee.findEmployee(1)).thenReturn(sampleEmployeeDTO);
+
+        // Act
+        ResponseEntity<EmployeeDTO> response = controller.findEmployee(1, null);
+
+        // Assert
+        assertEquals("\"3\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    public void findEmployee_withMatchingIfNoneMatch_shouldReturnNotModifiedWithoutLoading() {
+        // Arrange
+        when(findEmployeeVersion.findEmployeeVersion(1)).thenReturn(Optional.of(3L));
+
+        // Act
+        ResponseEntity<EmployeeDTO> response = controller.findEmployee(1, "W/\"3\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        verifyNoInteractions(findEmployee);
+    }
+
+    @Test
+    public void findEmployee_withStaleIfNoneMatch_shouldReturnEmployee() {
+        // Arrange
+        sampleEmployeeDTO.setVersion(4L);
+        when(findEmployeeVersion.findEmployeeVersion(1)).thenReturn(Optional.of(4L));
+        when(findEmployee.findEmployee(1)).thenReturn(sampleEmployeeDTO);
+
+        // Act
+        ResponseEntity<EmployeeDTO> response = controller.findEmployee(1, "\"3\"");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(sampleEmployeeDTO, response.getBody());
+    }
+
     // ========== UPDATE EMPLOYEE TESTS ==========
 
     @Test
@@ -180,7 +377,7 @@ public class EmployeeControllerTest {
         doNothing().when(updateEmployee).updateEmployee(eq(1), any(EmployeeDTO.class));
 
         // Act
-        ResponseEntity<EmployeeDTO> response = controller.updateEmployee(1, sampleEmployeeDTO);
+        ResponseEntity<EmployeeDTO> response = controller.updateEmployee(1, sampleEmployeeDTO, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -193,31 +390,76 @@ public class EmployeeControllerTest {
         doNothing().when(updateEmployee).updateEmployee(eq(employeeId), any(EmployeeDTO.class));
 
         // Act
-        controller.updateEmployee(employeeId, sampleEmployeeDTO);
+        controller.updateEmployee(employeeId, sampleEmployeeDTO, null);
 
         // Assert
         verify(updateEmployee, times(1)).updateEmployee(employeeId, sampleEmployeeDTO);
     }
 
+    @Test
+    public void updateEmployee_withIfMatch_shouldPassExpectedVersionToBehavior() {
+        // Act
+        ResponseEntity<EmployeeDTO> response = controller.updateEmployee(1, sampleEmployeeDTO, "\"5\"");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Long.valueOf(5), sampleEmployeeDTO.getVersion());
+    }
+
+    @Test
+    public void updateEmployee_whenVersionHasChanged_shouldReturnPreconditionFailed() {
+        // Arrange
+        doThrow(new OptimisticLockingFailureException("changed"))
+                .when(updateEmployee).updateEmployee(eq(1), any(EmployeeDTO.class));
+
+        // Act
+        ResponseEntity<EmployeeDTO> response = controller.updateEmployee(1, sampleEmployeeDTO, "\"5\"");
+
+        // Assert
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+    }
+
+    @Test
+    public void updateEmployee_withMalformedIfMatch_shouldReturnPreconditionFailed() {
+        // Act
+        ResponseEntity<EmployeeDTO> response = controller.updateEmployee(1, sampleEmployeeDTO, "W/\"5\"");
+
+        // Assert
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        verifyNoInteractions(updateEmployee);
+    }
+
     // ========== DELETE EMPLOYEE TESTS ==========
 
     @Test
-    public void deleteEmployee_shouldReturnOkStatus() {
+    public void deleteEmployee_whenDeleted_shouldReturnNoContentStatus() {
         // Arrange
-        doNothing().when(deleteEmployee).deleteEmployee(1);
+        when(deleteEmployee.deleteEmployee(1)).thenReturn(true);
 
         // Act
         ResponseEntity<?> response = controller.deleteEmployee(1);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+
+    @Test
+    public void deleteEmployee_whenNothingDeleted_shouldReturnNotFoundStatus() {
+        // Arrange
+        when(deleteEmployee.deleteEmployee(1)).thenReturn(false);
+
+        // Act
+        ResponseEntity<?> response = controller.deleteEmployee(1);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
     @Test
     public void deleteEmployee_shouldCallBehaviorWithCorrectId() {
         // Arrange
         int employeeId = 99;
-        doNothing().when(deleteEmployee).deleteEmployee(employeeId);
+        when(deleteEmployee.deleteEmployee(employeeId)).thenReturn(true);
 
         // Act
         controller.deleteEmployee(employeeId);
@@ -228,6 +470,21 @@ public class EmployeeControllerTest {
 
     // ========== HELPER METHODS ==========
 
+    private EmployeeController writeBehindController() {
+        return new EmployeeController(
+                createEmployee,
+                findEmployee,
+                findEmployeeVersion,
+                findEmployees,
+                findEmployeesVersion,
+                findEmployeesPage,
+                searchEmployees,
+                updateEmployee,
+                deleteEmployee,
+                Optional.of(enqueueEmployee)
+        );
+    }
+
     private EmployeeDTO createSampleEmployeeDTO(Integer id, String firstName, String lastName, String email) {
         EmployeeDTO dto = new EmployeeDTO();
         dto.setEmployeeID(id);
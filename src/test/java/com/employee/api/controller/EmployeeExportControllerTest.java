@@ -0,0 +1,152 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.ExportEmployees;
+import com.employee.api.model.EmployeeDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeExportController.
+ *
+ * The export behavior is mocked to feed employees to the controller - we're testing that the controller:
+ * - Writes one JSON document per line for NDJSON
+ * - Writes a header and RFC 4180 escaped rows for CSV
+ * - Flushes after the first employee and then on a fixed cadence, not per employee
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmployeeExportControllerTest {
+
+    @Mock
+    private ExportEmployees exportEmployees;
+
+    private EmployeeExportController controller;
+
+    @Before
+    public void setUp() {
+        controller = new EmployeeExportController(exportEmployees, new ObjectMapper());
+    }
+
+    @Test
+    public void exportEmployees_shouldWriteOneJsonDocumentPerLine() throws Exception {
+        // Arrange
+        givenExportedEmployees(
+                createEmployeeDTO(1, "John", "Doe", Arrays.asList("First", "Second")),
+                createEmployeeDTO(2, "Jane", "Smith", Collections.emptyList()));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.exportEmployees("ndjson");
+        String body = write(response.getBody());
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(body.endsWith("\n"));
+        EmployeeDTO first = new ObjectMapper().readValue(lines[0], EmployeeDTO.class);
+        assertEquals("John", first.getFirstName());
+        assertEquals(Arrays.asList("First", "Second"), first.getNotes());
+        assertEquals("Jane", new ObjectMapper().readValue(lines[1], EmployeeDTO.class).getFirstName());
+    }
+
+    @Test
+    public void exportEmployees_shouldWriteEscapedCsv() throws Exception {
+        // Arrange
+        givenExportedEmployees(
+                createEmployeeDTO(1, "John", "Doe, Jr.", Arrays.asList("Says \"hi\"", "Second")),
+                createEmployeeDTO(2, "Jane", "Smith", Collections.emptyList()));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.exportEmployees("csv");
+        String body = write(response.getBody());
+
+        // Assert
+        assertEquals(EmployeeExportController.TEXT_CSV, response.getHeaders().getContentType());
+        assertEquals("employeeID,firstName,lastName,emailAddress,notes\r\n"
+                + "1,John,\"Doe, Jr.\",john@example.com,\"Says \"\"hi\"\"\nSecond\"\r\n"
+                + "2,Jane,Smith,jane@example.com,\r\n", body);
+    }
+
+    @Test
+    public void exportEmployees_shouldRejectUnknownFormat() {
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.exportEmployees("xml");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(exportEmployees);
+    }
+
+    @Test
+    public void exportEmployees_shouldFlushOnCadenceRatherThanPerEmployee() throws Exception {
+        // Arrange
+        int count = EmployeeExportController.FLUSH_EVERY * 2 + 1;
+        EmployeeDTO[] employees = new EmployeeDTO[count];
+        for (int i = 0; i < count; i++) {
+            employees[i] = createEmployeeDTO(i + 1, "First" + i, "Last" + i, Collections.emptyList());
+        }
+        givenExportedEmployees(employees);
+        CountingOutputStream out = new CountingOutputStream();
+
+        // Act
+        controller.exportEmployees("ndjson").getBody().writeTo(out);
+
+        // Assert - after the first employee, at each multiple of FLUSH_EVERY, and once at the end
+        assertEquals(4, out.flushes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenExportedEmployees(EmployeeDTO... employees) {
+        doAnswer(invocation -> {
+            Consumer<EmployeeDTO> consumer = invocation.getArgument(0);
+            for (EmployeeDTO employee : employees) {
+                consumer.accept(employee);
+            }
+            return null;
+        }).when(exportEmployees).exportEmployees(any(Consumer.class));
+    }
+
+    private String write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private EmployeeDTO createEmployeeDTO(Integer id, String firstName, String lastName, List<String> notes) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setEmployeeID(id);
+        dto.setFirstName(firstName);
+        dto.setLastName(lastName);
+        dto.setEmailAddress(firstName.toLowerCase() + "@example.com");
+        dto.setNotes(notes);
+        return dto;
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
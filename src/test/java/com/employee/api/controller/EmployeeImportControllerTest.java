@@ -0,0 +1,251 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.ImportEmployees;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.api.model.EmployeeImportDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeImportController.
+ *
+ * The import behavior is mocked to drain the rows the controller parses - we're testing that the controller:
+ * - Reads CSV by header name, including quoted fields, multi-line notes and a byte order mark
+ * - Reads back the notes the CSV export writes, splitting a note that contains a line break
+ * - Reads NDJSON one line at a time, dropping ids so exported files can be imported again
+ * - Rejects an NDJSON line over the length cap and carries on with the next one
+ * - Reports rows it cannot read without giving up on the rest of the file
+ * - Rejects a file it cannot import before streaming any progress
+ * - Writes one progress document per line
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmployeeImportControllerTest {
+
+    @Mock
+    private ImportEmployees importEmployees;
+
+    private EmployeeImportController controller;
+
+    private final List<Object> rows = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        controller = new EmployeeImportController(importEmployees, new ObjectMapper());
+    }
+
+    @Test
+    public void importEmployees_withCsv_shouldReadColumnsByHeaderName() throws Exception {
+        // Arrange
+        givenImportDrainsRows();
+        String csv = "\uFEFFemployeeID,Notes,lastName,firstName,emailAddress,department\r\n"
+                + "7,\"First \"\"quoted\"\"\nSecond\",\"Doe, Jr.\",John,john@example.com,Sales\r\n"
+                + "\r\n"
+                + "8,,Smith,Jane,jane@example.com,\r\n";
+
+        // Act
+        write(controller.importEmployees("text/csv", utf8(csv)).getBody());
+
+        // Assert
+        assertEquals(2, rows.size());
+        EmployeeDTO john = (EmployeeDTO) rows.get(0);
+        assertNull(john.getEmployeeID());
+        assertEquals("John", john.getFirstName());
+        assertEquals("Doe, Jr.", john.getLastName());
+        assertEquals("john@example.com", john.getEmailAddress());
+        assertEquals(Arrays.asList("First \"quoted\"", "Second"), john.getNotes());
+        EmployeeDTO jane = (EmployeeDTO) rows.get(1);
+        assertEquals("Jane", jane.getFirstName());
+        assertEquals(Collections.emptyList(), jane.getNotes());
+    }
+
+    @Test
+    public void importEmployees_withExportedCsvNotes_shouldSplitNotesContainingLineBreaks() throws Exception {
+        // Arrange
+        givenImportDrainsRows();
+        String notes = EmployeeExportController.csvField(String.join("\n", "Met \"twice\", 2024", "Line one\r\nLine two"));
+        String csv = "firstName,lastName,emailAddress,notes\r\n"
+                + "John,Doe,john@example.com," + notes + "\r\n";
+
+        // Act
+        write(controller.importEmployees("text/csv", utf8(csv)).getBody());
+
+        // Assert
+        assertEquals(1, rows.size());
+        assertEquals(Arrays.asList("Met \"twice\", 2024", "Line one", "Line two"), ((EmployeeDTO) rows.get(0)).getNotes());
+    }
+
+    @Test
+    public void importEmployees_withBadCsvRecord_shouldReportItAndCarryOn() throws Exception {
+        // Arrange
+        givenImportDrainsRows();
+        String csv = "firstName,lastName,emailAddress\n"
+                + "John,Doe\n"
+                + "Jane,Smith,jane@example.com\n"
+                + "Bob,\"Unterminated,bob@example.com\n";
+
+        // Act
+        write(controller.importEmployees("text/csv; charset=UTF-8", utf8(csv)).getBody());
+
+        // Assert
+        assertEquals(3, rows.size());
+        assertEquals("Expected 3 fields but found 2", rows.get(0));
+        assertEquals("Jane", ((EmployeeDTO) rows.get(1)).getFirstName());
+        assertEquals("Unterminated quoted field", rows.get(2));
+    }
+
+    @Test
+    public void importEmployees_withCsvMissingRequiredColumn_shouldReturnBadRequest() throws Exception {
+        // Act
+        ResponseEntity<StreamingResponseBody> response =
+                controller.importEmployees("text/csv", utf8("firstName,lastName\nJohn,Doe\n"));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(importEmployees);
+    }
+
+    @Test
+    public void importEmployees_withNdjson_shouldReadOneEmployeePerLineWithoutIds() throws Exception {
+        // Arrange
+        givenImportDrainsRows();
+        String ndjson = "{\"employeeID\":7,\"version\":3,\"firstName\":\"John\",\"lastName\":\"Doe\","
+                + "\"emailAddress\":\"john@example.com\",\"notes\":[\"Note\"]}\n"
+                + "\n"
+                + "{not json}\n"
+                + "null\n";
+
+        // Act
+        write(controller.importEmployees(MediaType.APPLICATION_NDJSON_VALUE, utf8(ndjson)).getBody());
+
+        // Assert
+        assertEquals(3, rows.size());
+        EmployeeDTO john = (EmployeeDTO) rows.get(0);
+        assertNull(john.getEmployeeID());
+        assertNull(john.getVersion());
+        assertEquals("John", john.getFirstName());
+        assertEquals(Collections.singletonList("Note"), john.getNotes());
+        assertTrue(rows.get(1) instanceof String);
+        assertEquals("Expected an employee but found null", rows.get(2));
+    }
+
+    @Test
+    public void importEmployees_withOversizedNdjsonLine_shouldRejectItAndReadTheNextLine() throws Exception {
+        // Arrange
+        givenImportDrainsRows();
+        String ndjson = "{\"firstName\":\"" + "x".repeat(EmployeeNdjsonReader.MAX_LINE_CHARS) + "\"}\n"
+                + "{\"firstName\":\"John\",\"lastName\":\"Doe\",\"emailAddress\":\"john@example.com\"}\r\n";
+
+        // Act
+        write(controller.importEmployees(MediaType.APPLICATION_NDJSON_VALUE, utf8(ndjson)).getBody());
+
+        // Assert
+        assertEquals(2, rows.size());
+        assertEquals("Line longer than " + EmployeeNdjsonReader.MAX_LINE_CHARS + " characters", rows.get(0));
+        assertEquals("John", ((EmployeeDTO) rows.get(1)).getFirstName());
+    }
+
+    @Test
+    public void importEmployees_shouldWriteOneProgressDocumentPerLine() throws Exception {
+        // Arrange
+        when(importEmployees.importEmployees(any(), any())).thenAnswer(invocation -> {
+            Consumer<EmployeeImportDTO> progress = invocation.getArgument(1);
+            progress.accept(new EmployeeImportDTO(500, 500, 0, false, Collections.emptyList()));
+            EmployeeImportDTO result = new EmployeeImportDTO(750, 749, 1, true, Collections.emptyList());
+            progress.accept(result);
+            return result;
+        });
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response =
+                controller.importEmployees("text/csv", utf8("firstName,lastName,emailAddress\n"));
+        String body = write(response.getBody());
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertFalse(new ObjectMapper().readValue(lines[0], EmployeeImportDTO.class).isComplete());
+        EmployeeImportDTO last = new ObjectMapper().readValue(lines[1], EmployeeImportDTO.class);
+        assertTrue(last.isComplete());
+        assertEquals(749, last.getImported());
+    }
+
+    @Test
+    public void importEmployeesFile_shouldTakeFormatFromFileName() throws Exception {
+        // Arrange
+        givenImportDrainsRows();
+        MockMultipartFile file = new MockMultipartFile("file", "employees.jsonl", null,
+                "{\"firstName\":\"John\",\"lastName\":\"Doe\",\"emailAddress\":\"john@example.com\"}\n"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        write(controller.importEmployeesFile(file, null).getBody());
+
+        // Assert
+        assertEquals(1, rows.size());
+        assertEquals("John", ((EmployeeDTO) rows.get(0)).getFirstName());
+    }
+
+    @Test
+    public void importEmployeesFile_withUnknownFormat_shouldReturnUnsupportedMediaType() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "employees.xlsx", "application/octet-stream", new byte[0]);
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.importEmployeesFile(file, null);
+
+        // Assert
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, response.getStatusCode());
+        verifyNoInteractions(importEmployees);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    // Collects each parsed employee, or the message of a row that could not be read.
+    private void givenImportDrainsRows() {
+        when(importEmployees.importEmployees(any(), any())).thenAnswer(invocation -> {
+            Iterator<EmployeeDTO> employees = invocation.getArgument(0);
+            while (employees.hasNext()) {
+                try {
+                    rows.add(employees.next());
+                } catch (IllegalArgumentException e) {
+                    rows.add(e.getMessage());
+                }
+            }
+            return new EmployeeImportDTO(rows.size(), 0, 0, true, Collections.emptyList());
+        });
+    }
+
+    private ByteArrayInputStream utf8(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
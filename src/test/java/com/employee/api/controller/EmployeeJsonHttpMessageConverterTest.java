@@ -0,0 +1,141 @@
+package com.employee.api.controller;
+
+import com.employee.api.model.EmployeeDTO;
+import com.employee.api.model.EmployeePageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for EmployeeJsonHttpMessageConverter.
+ *
+ * These tests verify that the converter writes exactly the bytes Spring's
+ * default ObjectMapper writes, including for escapes, non-ASCII text and
+ * nulls, and that it only claims employee types for writing.
+ */
+public class EmployeeJsonHttpMessageConverterTest {
+
+    private static final Type EMPLOYEE_LIST = new ParameterizedTypeReference<List<EmployeeDTO>>() { }.getType();
+
+    private EmployeeJsonHttpMessageConverter converter;
+    private ObjectMapper objectMapper;
+
+    @Before
+    public void setUp() {
+        converter = new EmployeeJsonHttpMessageConverter();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    // ========== OUTPUT TESTS ==========
+
+    @Test
+    public void write_shouldMatchJacksonForPlainEmployees() throws Exception {
+        // Arrange
+        List<EmployeeDTO> employees = Arrays.asList(
+                createEmployeeDTO(1, "John", "Doe", "john@example.com", "First note", "Second note"),
+                createEmployeeDTO(-2147483648, "Jane", "Roe", "jane@example.com"));
+
+        // Act & Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(employees), write(employees));
+    }
+
+    @Test
+    public void write_shouldMatchJacksonForEscapesAndNonAsciiText() throws Exception {
+        // Arrange
+        List<EmployeeDTO> employees = Collections.singletonList(createEmployeeDTO(
+                7, "Zoë \"Zed\"", "O'Brien\\Ñúñez", "zoë@exämple.com/x",
+                "Line one\nLine two\r\tTabbed\b\f", "\u0000\u001f\u007f", "日本語 😀 €  "));
+
+        // Act & Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(employees), write(employees));
+    }
+
+    @Test
+    public void write_shouldMatchJacksonForNulls() throws Exception {
+        // Arrange
+        EmployeeDTO nullNotes = createEmployeeDTO(null, null, null, null);
+        nullNotes.setNotes(null);
+        EmployeeDTO nullNote = createEmployeeDTO(3, "John", "Doe", "john@example.com");
+        nullNote.setNotes(Arrays.asList("First note", null));
+        List<EmployeeDTO> employees = Arrays.asList(nullNotes, nullNote, null);
+
+        // Act & Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(employees), write(employees));
+    }
+
+    @Test
+    public void write_beyondOneBuffer_shouldMatchJackson() throws Exception {
+        // Arrange
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            employees.add(createEmployeeDTO(i, "First" + i, "Läst" + i, "employee" + i + "@example.com", "Note " + i));
+        }
+
+        // Act & Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(employees), write(employees));
+    }
+
+    @Test
+    public void write_singleEmployee_shouldMatchJackson() throws Exception {
+        // Arrange
+        EmployeeDTO employee = createEmployeeDTO(1, "John", "Doe", "john@example.com", "First note");
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(employee, EmployeeDTO.class, MediaType.APPLICATION_JSON, message);
+
+        // Assert
+        assertArrayEquals(objectMapper.writeValueAsBytes(employee), message.getBodyAsBytes());
+        assertEquals(MediaType.APPLICATION_JSON, message.getHeaders().getContentType());
+    }
+
+    // ========== SUPPORTED TYPE TESTS ==========
+
+    @Test
+    public void canWrite_shouldOnlyAcceptEmployeesAndEmployeeLists() {
+        // Act & Assert
+        assertTrue(converter.canWrite(EmployeeDTO.class, EmployeeDTO.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(EMPLOYEE_LIST, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(EMPLOYEE_LIST, List.class, MediaType.APPLICATION_XML));
+        assertFalse(converter.canWrite(EmployeePageDTO.class, EmployeePageDTO.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(List.class, List.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    public void canRead_shouldLeaveReadingToJackson() {
+        // Act & Assert
+        assertFalse(converter.canRead(EmployeeDTO.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(EMPLOYEE_LIST, null, MediaType.APPLICATION_JSON));
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private byte[] write(List<EmployeeDTO> employees) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        converter.writeEmployees(employees, out);
+        return out.toByteArray();
+    }
+
+    private EmployeeDTO createEmployeeDTO(Integer id, String firstName, String lastName, String email, String... notes) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setEmployeeID(id);
+        dto.setFirstName(firstName);
+        dto.setLastName(lastName);
+        dto.setEmailAddress(email);
+        dto.setNotes(Arrays.asList(notes));
+        return dto;
+    }
+}
@@ -0,0 +1,96 @@
+package com.employee.api.controller;
+
+import com.employee.api.behavior.ReactiveFindEmployee;
+import com.employee.api.behavior.ReactiveFindEmployees;
+import com.employee.api.model.EmployeeDTO;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactiveEmployeeController.
+ *
+ * Both behavior interfaces are mocked - we're testing that the controller
+ * passes the publishers through and maps an empty result to 404.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveEmployeeControllerTest {
+
+    @Mock
+    private ReactiveFindEmployees findEmployees;
+
+    @Mock
+    private ReactiveFindEmployee findEmployee;
+
+    private ReactiveEmployeeController controller;
+
+    @Before
+    public void setUp() {
+        controller = new ReactiveEmployeeController(findEmployees, findEmployee);
+    }
+
+    @Test
+    public void findEmployees_shouldReturnEmployeesFromBehavior() {
+        // Arrange
+        EmployeeDTO john = createEmployeeDTO(1, "John");
+        EmployeeDTO jane = createEmployeeDTO(2, "Jane");
+        when(findEmployees.findEmployees()).thenReturn(Flux.just(john, jane));
+
+        // Act
+        List<EmployeeDTO> employees = controller.findEmployees().collectList().block();
+
+        // Assert
+        assertEquals(2, employees.size());
+        assertSame(john, employees.get(0));
+        assertSame(jane, employees.get(1));
+    }
+
+    @Test
+    public void findEmployee_shouldReturnOkWhenFound() {
+        // Arrange
+        EmployeeDTO john = createEmployeeDTO(1, "John");
+        when(findEmployee.findEmployee(1)).thenReturn(Mono.just(john));
+
+        // Act
+        ResponseEntity<EmployeeDTO> response = controller.findEmployee(1).block();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(john, response.getBody());
+    }
+
+    @Test
+    public void findEmployee_shouldReturnNotFoundWhenEmpty() {
+        // Arrange
+        when(findEmployee.findEmployee(999)).thenReturn(Mono.empty());
+
+        // Act
+        ResponseEntity<EmployeeDTO> response = controller.findEmployee(999).block();
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    private EmployeeDTO createEmployeeDTO(Integer id, String firstName) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setEmployeeID(id);
+        dto.setFirstName(firstName);
+        dto.setLastName("Doe");
+        dto.setEmailAddress(firstName.toLowerCase() + "@example.com");
+        dto.setNotes(Collections.emptyList());
+        return dto;
+    }
+}
@@ -0,0 +1,184 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.internal.EmployeeChangeRepository;
+import com.employee.internal.EmployeeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the employee change feed.
+ *
+ * Changes are only published once a write has committed, so these tests
+ * run without a surrounding test transaction and clear the tables before
+ * each test instead.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class EmployeeChangeIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeChangeRepository employeeChangeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Before
+    public void setUp() {
+        employeeRepository.deleteAll();
+        employeeChangeRepository.deleteAll();
+    }
+
+    @Test
+    public void findEmployeeChanges_shouldListWritesInCommitOrder() throws Exception {
+        // Arrange
+        int employeeId = createEmployee("John");
+        mockMvc.perform(put("/api/employees/{id}", employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employee("Johnny"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/employees/{id}", employeeId))
+                .andExpect(status().isNoContent());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].employeeID").value(employeeId))
+                .andExpect(jsonPath("$[0].changeType").value("CREATED"))
+                .andExpect(jsonPath("$[1].changeType").value("UPDATED"))
+                .andExpect(jsonPath("$[2].changeType").value("DELETED"));
+    }
+
+    @Test
+    public void findEmployeeChanges_withSince_shouldReturnOnlyLaterChanges() throws Exception {
+        // Arrange
+        createEmployee("John");
+        long since = lastSequenceNumber();
+        int secondId = createEmployee("Jane");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/changes").param("since", Long.toString(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].employeeID").value(secondId))
+                .andExpect(jsonPath("$[0].sequenceNumber").value(since + 1));
+    }
+
+    @Test
+    public void bulkCreate_shouldLogEachCreatedEmployee() throws Exception {
+        // Act
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(employee("John"), employee("Jane")))))
+                .andExpect(status().isOk());
+
+        // Assert
+        mockMvc.perform(get("/api/employees/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].changeType").value("CREATED"))
+                .andExpect(jsonPath("$[1].changeType").value("CREATED"));
+    }
+
+    @Test
+    public void streamEmployeeChanges_shouldDeliverCommittedChanges() throws Exception {
+        // Arrange
+        createEmployee("Jane");
+        long since = lastSequenceNumber();
+        MvcResult stream = mockMvc.perform(get("/api/employees/changes/stream")
+                        .param("since", Long.toString(since))
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act
+        int employeeId = createEmployee("John");
+
+        // Assert
+        String events = awaitEvent(stream.getResponse());
+        assertTrue(events.contains("id:" + (since + 1)));
+        assertTrue(events.contains("event:change"));
+        assertTrue(events.contains("\"employeeID\":" + employeeId));
+    }
+
+    // ========== HELPER METHODS ==========
+
+    // SseEmitter writes an event's id and event lines and its data line separately, so
+    // waits for the blank line that ends the event rather than for its first line.
+    private String awaitEvent(MockHttpServletResponse response) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = response.getContentAsString();
+        while (!isEventComplete(content) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    private boolean isEventComplete(String content) {
+        int start = content.indexOf("event:change");
+        return start >= 0 && content.indexOf("\n\n", start) >= 0;
+    }
+
+    private long lastSequenceNumber() throws Exception {
+        String body = mockMvc.perform(get("/api/employees/changes"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        JsonNode changes = objectMapper.readTree(body);
+        assertTrue(changes.size() > 0);
+        return changes.get(changes.size() - 1).get("sequenceNumber").asLong();
+    }
+
+    private int createEmployee(String firstName) throws Exception {
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employee(firstName))))
+                .andExpect(status().isCreated());
+        return employeeRepository.findAll().stream()
+                .filter(employee -> firstName.equals(employee.getFirstName()))
+                .findFirst()
+                .orElseThrow()
+                .getEmployeeId();
+    }
+
+    private EmployeeDTO employee(String firstName) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName(firstName);
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setEmailAddress(firstName.toLowerCase() + "@example.com");
+        employeeDTO.setNotes(Collections.singletonList("First note"));
+        return employeeDTO;
+    }
+}
@@ -0,0 +1,184 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.internal.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the compressed employee list cache.
+ *
+ * The cache is keyed by the collection version, which only moves once a
+ * write made through the API has committed. These tests therefore run
+ * without a surrounding test transaction and create their employees
+ * through the batch endpoint.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class EmployeeCompressionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Before
+    public void setUp() throws Exception {
+        employeeRepository.deleteAll();
+        createEmployees(50);
+    }
+
+    @Test
+    public void getEmployees_acceptingGzip_shouldServeTheSameJsonCompressed() throws Exception {
+        // Arrange
+        MockHttpServletResponse plain = mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        // Act
+        MockHttpServletResponse compressed = getCompressed();
+
+        // Assert
+        assertEquals("gzip", compressed.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("W/" + plain.getHeader(HttpHeaders.ETAG), compressed.getHeader(HttpHeaders.ETAG));
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(compressed.getContentType())));
+        assertArrayEquals(plain.getContentAsByteArray(), gunzip(compressed.getContentAsByteArray()));
+    }
+
+    @Test
+    public void getEmployees_repeatedAtTheSameVersion_shouldBeServedFromTheCache() throws Exception {
+        // Arrange
+        double hits = counter("employee.compression.cache", "hit");
+        double misses = counter("employee.compression.cache", "miss");
+        double saved = meterRegistry.get("employee.compression.bytes.saved").counter().count();
+
+        // Act
+        byte[] first = getCompressed().getContentAsByteArray();
+        byte[] second = getCompressed().getContentAsByteArray();
+
+        // Assert
+        assertArrayEquals(first, second);
+        assertEquals(misses + 1, counter("employee.compression.cache", "miss"), 0);
+        assertEquals(hits + 1, counter("employee.compression.cache", "hit"), 0);
+        assertTrue(meterRegistry.get("employee.compression.bytes.saved").counter().count() > saved);
+    }
+
+    @Test
+    public void getEmployees_afterAWrite_shouldNotServeTheCachedList() throws Exception {
+        // Arrange
+        getCompressed();
+        double misses = counter("employee.compression.cache", "miss");
+
+        // Act
+        createEmployees(1);
+        byte[] body = gunzip(getCompressed().getContentAsByteArray());
+
+        // Assert
+        assertEquals(misses + 1, counter("employee.compression.cache", "miss"), 0);
+        assertEquals(51, objectMapper.readTree(body).size());
+    }
+
+    @Test
+    public void getEmployees_withCurrentWeakETag_shouldReturnNotModified() throws Exception {
+        // Arrange
+        String etag = getCompressed().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void getEmployees_belowTheThreshold_shouldNotBeCompressed() throws Exception {
+        // Arrange
+        employeeRepository.deleteAll();
+        createEmployees(1);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$[0].firstName").value("First0"));
+    }
+
+    @Test
+    public void getEmployees_acceptingSmile_shouldBypassTheCache() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/employees")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .accept(new MediaType("application", "x-jackson-smile")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private MockHttpServletResponse getCompressed() throws Exception {
+        return mockMvc.perform(get("/api/employees").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse();
+    }
+
+    private double counter(String name, String result) {
+        return meterRegistry.get(name).tag("result", result).counter().count();
+    }
+
+    private byte[] gunzip(byte[] body) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private void createEmployees(int count) throws Exception {
+        List<EmployeeDTO> employeeDTOs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            EmployeeDTO dto = new EmployeeDTO();
+            dto.setFirstName("First" + i);
+            dto.setLastName("Last" + i);
+            dto.setEmailAddress("employee" + i + "@example.com");
+            dto.setNotes(Arrays.asList("First note", "Second note"));
+            employeeDTOs.add(dto);
+        }
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employeeDTOs)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,172 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.internal.Employee;
+import com.employee.internal.EmployeeRepository;
+import com.employee.internal.Note;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for ETags and conditional requests.
+ *
+ * The collection ETag only moves once a write has committed, so these
+ * tests run without a surrounding test transaction and clear the
+ * tables before each test instead.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class EmployeeConditionalRequestIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Before
+    public void setUp() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    public void findEmployee_withCurrentETag_shouldReturnNotModified() throws Exception {
+        // Arrange
+        Employee saved = saveEmployee("John", "Doe", "First note");
+        String etag = etagOf("/api/employees/" + saved.getEmployeeId());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/{id}", saved.getEmployeeId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void updateEmployee_withCurrentETag_shouldSucceedAndChangeTheETag() throws Exception {
+        // Arrange
+        Employee saved = saveEmployee("John", "Doe", "First note");
+        String etag = etagOf("/api/employees/" + saved.getEmployeeId());
+
+        // Act
+        putEmployee(saved.getEmployeeId(), etag, "Johnny", "First note")
+                .andExpect(status().isOk());
+
+        // Assert
+        String updated = etagOf("/api/employees/" + saved.getEmployeeId());
+        assertNotEquals(etag, updated);
+        mockMvc.perform(get("/api/employees/{id}", saved.getEmployeeId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("Johnny"));
+    }
+
+    @Test
+    public void updateEmployee_withStaleETag_shouldReturnPreconditionFailed() throws Exception {
+        // Arrange
+        Employee saved = saveEmployee("John", "Doe", "First note");
+        String etag = etagOf("/api/employees/" + saved.getEmployeeId());
+        putEmployee(saved.getEmployeeId(), etag, "Johnny", "First note")
+                .andExpect(status().isOk());
+
+        // Act
+        putEmployee(saved.getEmployeeId(), etag, "Jack", "First note")
+                .andExpect(status().isPreconditionFailed());
+
+        // Assert
+        assertEquals("Johnny", employeeRepository.findById(saved.getEmployeeId()).orElseThrow().getFirstName());
+    }
+
+    @Test
+    public void updateEmployee_changingOnlyANote_shouldChangeTheETag() throws Exception {
+        // Arrange
+        Employee saved = saveEmployee("John", "Doe", "First note");
+        String etag = etagOf("/api/employees/" + saved.getEmployeeId());
+
+        // Act
+        putEmployee(saved.getEmployeeId(), etag, "John", "Edited note")
+                .andExpect(status().isOk());
+
+        // Assert
+        assertNotEquals(etag, etagOf("/api/employees/" + saved.getEmployeeId()));
+    }
+
+    @Test
+    public void findEmployees_shouldReturnNotModifiedUntilAnEmployeeChanges() throws Exception {
+        // Arrange
+        Employee saved = saveEmployee("John", "Doe", "First note");
+        String etag = etagOf("/api/employees");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(delete("/api/employees/{id}", saved.getEmployeeId()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private String etagOf(String url) throws Exception {
+        return mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+
+    private ResultActions putEmployee(
+            int employeeId, String ifMatch, String firstName, String... notes) throws Exception {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName(firstName);
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setEmailAddress("john@example.com");
+        employeeDTO.setNotes(Arrays.asList(notes));
+        return mockMvc.perform(put("/api/employees/{id}", employeeId)
+                .header(HttpHeaders.IF_MATCH, ifMatch)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employeeDTO)));
+    }
+
+    private Employee saveEmployee(String firstName, String lastName, String... notes) {
+        Employee employee = new Employee();
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmailAddress("john@example.com");
+        for (String text : notes) {
+            Note note = new Note();
+            note.setText(text);
+            employee.addNote(note);
+        }
+        return employeeRepository.save(employee);
+    }
+}
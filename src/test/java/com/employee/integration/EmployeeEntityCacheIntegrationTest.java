@@ -0,0 +1,179 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.internal.Employee;
+import com.employee.internal.EmployeeRepository;
+import com.employee.internal.Note;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Hibernate second-level cache.
+ *
+ * These tests verify that an update finds the employee and its notes in
+ * the cache, that writes through the API keep the cached state, including
+ * the version, in line with the database, and that the cache regions are
+ * reported as metrics. They commit their writes, so they run without a
+ * surrounding test transaction.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class, properties = "employee.entity-cache.statistics.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class EmployeeEntityCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @Before
+    public void setUp() {
+        employeeRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void updateEmployee_onceCached_shouldNotReadTheDatabase() throws Exception {
+        // Arrange
+        Employee saved = saveEmployee("John", "First note", "Second note");
+        putEmployee(saved.getEmployeeId(), toDTO("John", "First note", "Second note"));
+        statistics.clear();
+
+        // Act
+        putEmployee(saved.getEmployeeId(), toDTO("John", "First note", "Second note"));
+
+        // Assert
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("employee").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("employee.notes").getHitCount());
+        assertEquals(2, statistics.getDomainDataRegionStatistics("note").getHitCount());
+    }
+
+    @Test
+    public void updateEmployee_afterANotesOnlyChange_shouldSeeTheIncrementedVersion() throws Exception {
+        // Arrange
+        Employee saved = saveEmployee("John", "First note");
+        putEmployee(saved.getEmployeeId(), toDTO("John", "Edited note"));
+        String etag = mockMvc.perform(get("/api/employees/{id}", saved.getEmployeeId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act
+        mockMvc.perform(put("/api/employees/{id}", saved.getEmployeeId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(toDTO("Renamed", "Edited note"))))
+                .andExpect(status().isOk());
+
+        // Assert
+        Employee cached = employeeRepository.findById(saved.getEmployeeId()).orElseThrow();
+        Long stored = jdbcTemplate.queryForObject(
+                "SELECT VERSION FROM EMPLOYEE WHERE EMPLOYEE_ID = ?", Long.class, saved.getEmployeeId());
+        assertEquals("Renamed", cached.getFirstName());
+        assertEquals(stored.longValue(), cached.getVersion());
+        assertEquals(2, stored.longValue());
+    }
+
+    @Test
+    public void deleteEmployee_shouldRemoveTheCachedEmployee() throws Exception {
+        // Arrange
+        Employee saved = saveEmployee("John", "First note");
+        putEmployee(saved.getEmployeeId(), toDTO("John", "First note"));
+
+        // Act
+        mockMvc.perform(delete("/api/employees/{id}", saved.getEmployeeId()))
+                .andExpect(status().isNoContent());
+
+        // Assert
+        assertFalse(employeeRepository.findById(saved.getEmployeeId()).isPresent());
+    }
+
+    @Test
+    public void cacheRegions_shouldBeReportedAsMetrics() throws Exception {
+        // Arrange
+        Employee saved = saveEmployee("John", "First note");
+        putEmployee(saved.getEmployeeId(), toDTO("John", "First note"));
+        putEmployee(saved.getEmployeeId(), toDTO("John", "First note"));
+
+        // Act
+        double hits = meterRegistry.get("hibernate.second.level.cache.requests")
+                .tags("region", "employee", "result", "hit").functionCounter().count();
+        double size = meterRegistry.get("hibernate.second.level.cache.size")
+                .tag("region", "employee").gauge().value();
+        double hitRatio = meterRegistry.get("hibernate.second.level.cache.hit.ratio")
+                .tag("region", "note").gauge().value();
+
+        // Assert
+        assertTrue("hits: " + hits, hits >= 2);
+        assertTrue("size: " + size, size >= 1);
+        assertTrue("hit ratio: " + hitRatio, hitRatio > 0 && hitRatio <= 1);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private Employee saveEmployee(String firstName, String... notes) {
+        Employee employee = new Employee();
+        employee.setFirstName(firstName);
+        employee.setLastName("Doe");
+        employee.setEmailAddress("john@example.com");
+        for (String text : notes) {
+            Note note = new Note();
+            note.setText(text);
+            employee.addNote(note);
+        }
+        return employeeRepository.save(employee);
+    }
+
+    private EmployeeDTO toDTO(String firstName, String... notes) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setFirstName(firstName);
+        dto.setLastName("Doe");
+        dto.setEmailAddress("john@example.com");
+        dto.setNotes(Arrays.asList(notes));
+        return dto;
+    }
+
+    private void putEmployee(int employeeId, EmployeeDTO employeeDTO) throws Exception {
+        mockMvc.perform(put("/api/employees/{id}", employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employeeDTO)))
+                .andExpect(status().isOk());
+    }
+}
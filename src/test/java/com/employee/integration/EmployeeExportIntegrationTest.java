@@ -0,0 +1,120 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.internal.Employee;
+import com.employee.internal.EmployeeRepository;
+import com.employee.internal.Note;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the streaming employee export.
+ *
+ * The export reads through its own JDBC connection, so test data is
+ * committed through the JPA repository outside of a test transaction.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class EmployeeExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Before
+    public void setUp() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    public void exportEmployees_shouldStreamEveryEmployeeWithNotesAsNdjson() throws Exception {
+        // Arrange
+        Employee john = saveEmployee("John", "Doe", "First note", "Second note");
+        Employee jane = saveEmployee("Jane", "Smith");
+
+        // Act
+        String body = export("/api/employees/export");
+
+        // Assert
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        EmployeeDTO first = objectMapper.readValue(lines[0], EmployeeDTO.class);
+        assertEquals(john.getEmployeeId(), first.getEmployeeID());
+        assertEquals(Arrays.asList("First note", "Second note"), first.getNotes());
+        EmployeeDTO second = objectMapper.readValue(lines[1], EmployeeDTO.class);
+        assertEquals(jane.getEmployeeId(), second.getEmployeeID());
+        assertEquals(Collections.emptyList(), second.getNotes());
+    }
+
+    @Test
+    public void exportEmployees_shouldStreamCsv() throws Exception {
+        // Arrange
+        Employee john = saveEmployee("John", "Doe", "Note");
+
+        // Act
+        String body = export("/api/employees/export?format=csv");
+
+        // Assert
+        assertEquals("employeeID,firstName,lastName,emailAddress,notes\r\n"
+                + john.getEmployeeId() + ",John,Doe,john@example.com,Note\r\n", body);
+    }
+
+    @Test
+    public void exportEmployees_withNoEmployees_shouldReturnEmptyBody() throws Exception {
+        // Act
+        String body = export("/api/employees/export");
+
+        // Assert
+        assertEquals("", body);
+    }
+
+    private String export(String url) throws Exception {
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", startsWith("attachment")));
+        return result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private Employee saveEmployee(String firstName, String lastName, String... notes) {
+        Employee employee = new Employee();
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmailAddress(firstName.toLowerCase() + "@example.com");
+        for (String text : notes) {
+            Note note = new Note();
+            note.setText(text);
+            employee.addNote(note);
+        }
+        return employeeRepository.save(employee);
+    }
+}
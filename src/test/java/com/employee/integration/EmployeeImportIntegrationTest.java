@@ -0,0 +1,160 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.model.EmployeeImportDTO;
+import com.employee.internal.Employee;
+import com.employee.internal.EmployeeRepository;
+import com.employee.internal.Note;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the streaming employee import.
+ *
+ * Each chunk commits in its own transaction, so the data is checked through
+ * JDBC after the request rather than inside a test transaction.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class, properties = "employee.import.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class EmployeeImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Before
+    public void setUp() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    public void importEmployees_withCsvBody_shouldCommitEveryChunkAndStreamProgress() throws Exception {
+        // Arrange
+        String csv = "firstName,lastName,emailAddress,notes\r\n"
+                + "John,Doe,john@example.com,\"First\nSecond\"\r\n"
+                + "Jane,Smith,jane@example.com,\r\n"
+                + "Bob,Brown,,\r\n"
+                + "Alice,Jones,alice@example.com,Note\r\n"
+                + "Carol,White,carol@example.com,\r\n";
+
+        // Act
+        List<EmployeeImportDTO> progress = importEmployees(post("/api/employees/import")
+                .contentType("text/csv")
+                .content(csv));
+
+        // Assert
+        assertEquals(3, progress.size());
+        assertEquals(2, progress.get(0).getImported());
+        EmployeeImportDTO result = progress.get(2);
+        assertTrue(result.isComplete());
+        assertEquals(5, result.getRowsRead());
+        assertEquals(4, result.getImported());
+        assertEquals(1, result.getInvalid());
+        assertEquals(2, result.getErrors().get(0).getIndex());
+        assertEquals(Integer.valueOf(4), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM EMPLOYEE", Integer.class));
+        assertEquals(Arrays.asList("First", "Second"), jdbcTemplate.queryForList(
+                "SELECT N.TEXT FROM NOTE N JOIN EMPLOYEE E ON E.EMPLOYEE_ID = N.EMPLOYEE_ID "
+                        + "WHERE E.FIRST_NAME = 'John' ORDER BY N.NOTE_ID", String.class));
+    }
+
+    @Test
+    public void importEmployees_withMultipartExport_shouldRoundTrip() throws Exception {
+        // Arrange
+        saveEmployee("John", "Doe", "First note", "Second note");
+        saveEmployee("Jane", "Smith");
+        MvcResult export = mockMvc.perform(get("/api/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(export)).andExpect(status().isOk());
+        byte[] exported = export.getResponse().getContentAsByteArray();
+        employeeRepository.deleteAll();
+
+        // Act
+        List<EmployeeImportDTO> progress = importEmployees(multipart("/api/employees/import")
+                .file(new MockMultipartFile("file", "employees.ndjson", null, exported)));
+
+        // Assert
+        EmployeeImportDTO result = progress.get(progress.size() - 1);
+        assertEquals(2, result.getImported());
+        assertEquals(0, result.getInvalid());
+        assertEquals(Integer.valueOf(2), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM NOTE", Integer.class));
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    public void importEmployees_withUnreadableCsvHeader_shouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/employees/import")
+                        .contentType("text/csv")
+                        .content("name,email\nJohn,john@example.com\n"))
+                .andExpect(status().isBadRequest());
+        assertEquals(Integer.valueOf(0), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM EMPLOYEE", Integer.class));
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private List<EmployeeImportDTO> importEmployees(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return Arrays.stream(body.split("\n"))
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, EmployeeImportDTO.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    private void saveEmployee(String firstName, String lastName, String... notes) {
+        Employee employee = new Employee();
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmailAddress(firstName.toLowerCase() + "@example.com");
+        for (String text : notes) {
+            Note note = new Note();
+            note.setText(text);
+            employee.addNote(note);
+        }
+        employeeRepository.save(employee);
+    }
+}
@@ -0,0 +1,107 @@
+package com.employee.integration;
+
+import com.Main;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Integration tests for the multipart size limits, which the container
+ * enforces and MockMvc does not, so these run against a real server.
+ *
+ * A 2 MB upload is over Spring Boot's default 1 MB per file. The import
+ * should take it; an upload to any other endpoint should still be refused.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(
+        classes = {Main.class, EmployeeImportUploadLimitTest.UploadEndpointConfiguration.class},
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("h2")
+public class EmployeeImportUploadLimitTest {
+
+    private static final String BOUNDARY = "employee-import-boundary";
+    private static final int UPLOAD_BYTES = 2 * 1024 * 1024;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    public void importEmployees_withUploadOverDefaultLimit_shouldImportIt() throws Exception {
+        // Arrange
+        StringBuilder csv = new StringBuilder("firstName,lastName,emailAddress,notes\n");
+        String note = "x".repeat(200);
+        for (int i = 0; csv.length() < UPLOAD_BYTES; i++) {
+            csv.append("John,Doe,john").append(i).append("@example.com,").append(note).append('\n');
+        }
+
+        // Act
+        HttpResponse<String> response = upload("/api/employees/import?format=csv", csv.toString());
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"complete\":true"));
+    }
+
+    @Test
+    public void upload_toOtherEndpointOverDefaultLimit_shouldBeRefused() throws Exception {
+        // Act
+        HttpResponse<String> response = upload("/test/upload", "x".repeat(UPLOAD_BYTES));
+
+        // Assert
+        assertEquals(413, response.statusCode());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private HttpResponse<String> upload(String path, String file) throws Exception {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"employees.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(file.getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+        return HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()
+                .send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @TestConfiguration
+    static class UploadEndpointConfiguration {
+
+        @Bean
+        UploadController uploadController() {
+            return new UploadController();
+        }
+    }
+
+    @RestController
+    static class UploadController {
+
+        @PostMapping("/test/upload")
+        long upload(@RequestPart("file") MultipartFile file) {
+            return file.getSize();
+        }
+    }
+}
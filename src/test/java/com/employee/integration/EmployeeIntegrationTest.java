@@ -18,6 +18,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -51,6 +53,9 @@ public class EmployeeIntegrationTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -134,6 +139,95 @@ public class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$[0].notes[0]", is("Test note")));
     }
 
+    @Test
+    public void findEmployeesPage_shouldWalkAllEmployeesByCursor() throws Exception {
+        // Arrange
+        Employee first = createAndSaveEmployee("John", "Doe", "john@example.com");
+        Employee second = createAndSaveEmployee("Jane", "Smith", "jane@example.com");
+        Employee third = createAndSaveEmployee("Jim", "Beam", "jim@example.com");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(2)))
+                .andExpect(jsonPath("$.employees[0].employeeID", is(first.getEmployeeId())))
+                .andExpect(jsonPath("$.employees[1].employeeID", is(second.getEmployeeId())))
+                .andExpect(jsonPath("$.nextCursor", is(second.getEmployeeId())));
+
+        mockMvc.perform(get("/api/employees")
+                        .param("after", String.valueOf(second.getEmployeeId()))
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(1)))
+                .andExpect(jsonPath("$.employees[0].employeeID", is(third.getEmployeeId())))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    // ========== SEARCH EMPLOYEES INTEGRATION TESTS ==========
+
+    @Test
+    public void searchEmployees_shouldMatchPrefixOfAnyNameOrEmailIgnoringCase() throws Exception {
+        // Arrange
+        Employee john = createAndSaveEmployee("John", "Doe", "jd@example.com");
+        Employee jane = createAndSaveEmployee("Jane", "Johnson", "jane@example.com");
+        Employee jim = createAndSaveEmployee("Jim", "Beam", "JOHNNY@example.com");
+        createAndSaveEmployee("Bob", "Smith", "bob.john@example.com");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/search").param("q", "joh"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(3)))
+                .andExpect(jsonPath("$.employees[0].employeeID", is(john.getEmployeeId())))
+                .andExpect(jsonPath("$.employees[1].employeeID", is(jane.getEmployeeId())))
+                .andExpect(jsonPath("$.employees[2].employeeID", is(jim.getEmployeeId())))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void searchEmployees_shouldPageByCursor() throws Exception {
+        // Arrange
+        Employee first = createAndSaveEmployee("Sam", "Doe", "sam1@example.com");
+        Employee second = createAndSaveEmployee("Samantha", "Doe", "sam2@example.com");
+        Employee third = createAndSaveEmployee("Samuel", "Doe", "sam3@example.com");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/search").param("q", "SAM").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor", is(second.getEmployeeId())));
+
+        mockMvc.perform(get("/api/employees/search")
+                        .param("q", "SAM")
+                        .param("after", String.valueOf(second.getEmployeeId()))
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(1)))
+                .andExpect(jsonPath("$.employees[0].employeeID", is(third.getEmployeeId())))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void searchEmployees_shouldTreatWildcardsLiterally() throws Exception {
+        // Arrange
+        createAndSaveEmployee("John", "Doe", "john@example.com");
+        Employee percent = createAndSaveEmployee("100%", "Doe", "percent@example.com");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/search").param("q", "%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(0)));
+        mockMvc.perform(get("/api/employees/search").param("q", "100%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(1)))
+                .andExpect(jsonPath("$.employees[0].employeeID", is(percent.getEmployeeId())));
+    }
+
+    @Test
+    public void searchEmployees_withBlankQuery_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/employees/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
     // ========== FIND EMPLOYEE BY ID INTEGRATION TESTS ==========
 
     @Test
@@ -149,10 +243,10 @@ public class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$.emailAddress", is("john@example.com")));
     }
 
-    @Test(expected = org.springframework.web.util.NestedServletException.class)
+    @Test(expected = jakarta.servlet.ServletException.class)
     public void findEmployee_whenNotExists_shouldThrowException() throws Exception {
         // Act & Assert
-        // RuntimeException from service propagates as NestedServletException through MockMvc.
+        // RuntimeException from service propagates as ServletException through MockMvc.
         // Consider adding proper exception handling for 404.
         mockMvc.perform(get("/api/employees/{id}", 99999));
     }
@@ -179,6 +273,31 @@ public class EmployeeIntegrationTest {
         assertEquals("johnny@example.com", updated.getEmailAddress());
     }
 
+    @Test
+    public void updateEmployee_withReorderedNotes_shouldPersistTheNewOrder() throws Exception {
+        // Arrange
+        Employee saved = createAndSaveEmployee("John", "Doe", "john@example.com");
+        addNoteToEmployee(saved, "First note");
+        addNoteToEmployee(saved, "Second note");
+        EmployeeDTO updateDTO = createEmployeeDTO("John", "Doe", "john@example.com");
+        updateDTO.setNotes(Arrays.asList("Second note", "First note"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        mockMvc.perform(put("/api/employees/{id}", saved.getEmployeeId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        mockMvc.perform(get("/api/employees/{id}", saved.getEmployeeId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notes", contains("Second note", "First note")));
+    }
+
     // ========== DELETE EMPLOYEE INTEGRATION TESTS ==========
 
     @Test
@@ -189,17 +308,17 @@ public class EmployeeIntegrationTest {
 
         // Act
         mockMvc.perform(delete("/api/employees/{id}", employeeId))
-                .andExpect(status().isOk());
+                .andExpect(status().isNoContent());
 
         // Assert
         assertFalse(employeeRepository.existsById(employeeId));
     }
 
     @Test
-    public void deleteEmployee_whenNotExists_shouldReturnOk() throws Exception {
-        // Act & Assert - should not throw error even if employee doesn't exist
+    public void deleteEmployee_whenNotExists_shouldReturnNotFound() throws Exception {
+        // Act & Assert
         mockMvc.perform(delete("/api/employees/{id}", 99999))
-                .andExpect(status().isOk());
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -211,11 +330,76 @@ public class EmployeeIntegrationTest {
 
         // Act
         mockMvc.perform(delete("/api/employees/{id}", employeeId))
-                .andExpect(status().isOk());
+                .andExpect(status().isNoContent());
 
         // Assert
         assertFalse(employeeRepository.existsById(employeeId));
-        // Notes should be cascade deleted with employee
+        assertEquals(0L, entityManager.createQuery("select count(n) from Note n", Long.class).getSingleResult().longValue());
+    }
+
+    // ========== BATCH INTEGRATION TESTS ==========
+
+    @Test
+    public void createEmployeesBatch_shouldPersistValidItemsAndReportInvalidOnes() throws Exception {
+        // Arrange
+        EmployeeDTO valid = createEmployeeDTO("John", "Doe", "john@example.com");
+        valid.setNotes(Arrays.asList("Note 1", "Note 2"));
+        EmployeeDTO invalid = createEmployeeDTO("Jane", null, "jane@example.com");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(valid, invalid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status", is("CREATED")))
+                .andExpect(jsonPath("$[0].employeeID", notNullValue()))
+                .andExpect(jsonPath("$[1].status", is("INVALID")))
+                .andExpect(jsonPath("$[1].message", is("lastName is required")));
+
+        List<Employee> employees = employeeRepository.findAll();
+        assertEquals(1, employees.size());
+        assertEquals(2, employees.get(0).getNotes().size());
+    }
+
+    @Test
+    public void updateEmployeesBatch_shouldUpdateExistingAndReportMissing() throws Exception {
+        // Arrange
+        Employee saved = createAndSaveEmployee("John", "Doe", "john@example.com");
+        EmployeeDTO update = createEmployeeDTO("Johnny", "Updated", "johnny@example.com");
+        update.setEmployeeID(saved.getEmployeeId());
+        EmployeeDTO missing = createEmployeeDTO("Ghost", "Employee", "ghost@example.com");
+        missing.setEmployeeID(99999);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(update, missing))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status", is("UPDATED")))
+                .andExpect(jsonPath("$[1].status", is("NOT_FOUND")));
+
+        mockMvc.perform(get("/api/employees/{id}", saved.getEmployeeId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName", is("Johnny")));
+    }
+
+    @Test
+    public void deleteEmployeesBatch_shouldRemoveEmployeesWithNotes() throws Exception {
+        // Arrange
+        Employee first = createAndSaveEmployee("John", "Doe", "john@example.com");
+        addNoteToEmployee(first, "Note to be deleted");
+        Employee second = createAndSaveEmployee("Jane", "Smith", "jane@example.com");
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                Arrays.asList(first.getEmployeeId(), second.getEmployeeId(), 99999))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].status", contains("DELETED", "DELETED", "NOT_FOUND")));
+
+        assertEquals(0, employeeRepository.count());
     }
 
     // ========== END-TO-END WORKFLOW TESTS ==========
@@ -260,7 +444,7 @@ public class EmployeeIntegrationTest {
 
         // DELETE
         mockMvc.perform(delete("/api/employees/{id}", employeeId))
-                .andExpect(status().isOk());
+                .andExpect(status().isNoContent());
 
         // Verify deletion
         mockMvc.perform(get("/api/employees"))
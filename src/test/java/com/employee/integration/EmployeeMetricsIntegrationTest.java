@@ -0,0 +1,107 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.internal.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the Prometheus scrape endpoint.
+ *
+ * These tests drive requests through the full stack and verify that
+ * the behavior timers, JDBC statement timers, connection pool gauges,
+ * mapper allocation counters and employee cache meters all show up in
+ * the scrape output.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("h2")
+public class EmployeeMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Before
+    public void setUp() throws Exception {
+        employeeRepository.deleteAll();
+
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("John");
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setEmailAddress("john@example.com");
+        employeeDTO.setNotes(Collections.singletonList("First note"));
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employeeDTO)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void prometheus_shouldExposeBehaviorTimersWithHistograms() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("employee_behavior_seconds_count{behavior=\"CreateEmployee\"")))
+                .andExpect(content().string(containsString("employee_behavior_seconds_bucket{behavior=\"FindEmployees\"")))
+                .andExpect(content().string(containsString("employee_behavior_seconds{behavior=\"FindEmployees\"")));
+    }
+
+    @Test
+    public void prometheus_shouldExposeJdbcAndPoolMetrics() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("jdbc_query_seconds_count")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+
+    @Test
+    public void prometheus_shouldExposeMapperAllocationCounters() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("employee_mapper_allocations_total{type=\"Employee\"")))
+                .andExpect(content().string(containsString("employee_mapper_allocations_total{type=\"Note\"")))
+                .andExpect(content().string(containsString("employee_mapper_allocations_total{type=\"EmployeeDTO\"")));
+    }
+
+    @Test
+    public void prometheus_shouldExposeEmployeeCacheMetrics() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("employee_cache_requests_total{result=\"hit\"")))
+                .andExpect(content().string(containsString("employee_cache_requests_total{result=\"miss\"")))
+                .andExpect(content().string(containsString("employee_cache_evictions_total")))
+                .andExpect(content().string(containsString("employee_cache_size")));
+    }
+}
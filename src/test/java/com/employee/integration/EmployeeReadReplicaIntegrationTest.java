@@ -0,0 +1,145 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.behavior.CreateEmployee;
+import com.employee.api.behavior.FindEmployees;
+import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Integration tests for read/write splitting across H2 instances.
+ *
+ * Two in-memory H2 databases stand in for replicas, each holding a
+ * different employee, and a third replica points at a server that is not
+ * there. H2 does not replicate, so which employees a read returns shows
+ * which database it ran on.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class, properties = {
+        "employee.datasource.replicas.enabled=true",
+        "employee.datasource.replicas.urls=" + EmployeeReadReplicaIntegrationTest.REPLICA_1 + ","
+                + EmployeeReadReplicaIntegrationTest.REPLICA_2 + ",jdbc:h2:tcp://localhost:1/unreachable",
+        "employee.datasource.replicas.max-lag=" + EmployeeReadReplicaIntegrationTest.MAX_LAG_MILLIS + "ms",
+        "employee.datasource.replicas.connection-timeout=250ms",
+        "employee.datasource.replicas.health-check-interval=200ms"
+})
+@ActiveProfiles("h2")
+public class EmployeeReadReplicaIntegrationTest {
+
+    static final String REPLICA_1 = "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_2 = "jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1";
+    static final long MAX_LAG_MILLIS = 1000;
+
+    @Autowired
+    private FindEmployees findEmployees;
+
+    @Autowired
+    private CreateEmployee createEmployee;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeClass
+    public static void createReplicas() throws Exception {
+        createReplica(REPLICA_1, "Replica1");
+        createReplica(REPLICA_2, "Replica2");
+    }
+
+    @Test
+    public void findEmployees_shouldReadFromEachHealthyReplica() throws Exception {
+        // Arrange
+        Thread.sleep(MAX_LAG_MILLIS);
+
+        // Act
+        Set<String> firstNames = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            firstNames.addAll(firstNames(findEmployees.findEmployees()));
+        }
+
+        // Assert
+        assertEquals(Set.of("Replica1", "Replica2"), firstNames);
+        assertFalse(meterRegistry.find("jdbc.query").timers().isEmpty());
+    }
+
+    @Test
+    public void findEmployees_rightAfterWrite_shouldReadTheWriteFromPrimary() throws Exception {
+        // Arrange
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("Written");
+        employeeDTO.setLastName("Primary");
+        employeeDTO.setEmailAddress("written@example.com");
+        employeeDTO.setNotes(new ArrayList<>());
+
+        // Act
+        createEmployee.createEmployee(employeeDTO);
+        List<String> firstNames = firstNames(findEmployees.findEmployees());
+
+        // Assert
+        assertTrue(firstNames.toString(), firstNames.contains("Written"));
+        assertEquals(1, countEmployees(REPLICA_1));
+        assertEquals(1, countEmployees(REPLICA_2));
+    }
+
+    @Test
+    public void healthChecks_shouldTakeUnreachableReplicaOutOfRotation() throws Exception {
+        // Act
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (healthyReplicas() != 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        // Assert
+        assertEquals(2.0, healthyReplicas(), 0.0);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private static void createReplica(String url, String firstName) throws Exception {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("RUNSCRIPT FROM 'classpath:schema-h2.sql'");
+            statement.execute("DELETE FROM NOTE");
+            statement.execute("DELETE FROM EMPLOYEE");
+            statement.execute("INSERT INTO EMPLOYEE (FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) "
+                    + "VALUES ('" + firstName + "', 'Replica', '" + firstName.toLowerCase() + "@example.com')");
+        }
+    }
+
+    private static int countEmployees(String url) throws Exception {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM EMPLOYEE")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private double healthyReplicas() {
+        return meterRegistry.get("employee.datasource.replicas.healthy").gauge().value();
+    }
+
+    private List<String> firstNames(List<EmployeeDTO> employees) {
+        return employees.stream().map(EmployeeDTO::getFirstName).collect(Collectors.toList());
+    }
+}
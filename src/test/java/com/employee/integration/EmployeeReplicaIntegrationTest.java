@@ -0,0 +1,149 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.internal.Employee;
+import com.employee.internal.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the in-memory employee replica.
+ *
+ * The replica only sees writes that go through the change log, so these
+ * tests create their own employees through the API and check for them by
+ * email address instead of clearing the tables.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class, properties = "employee.replica.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class EmployeeReplicaIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void findEmployee_afterCreate_shouldReturnTheNewEmployee() throws Exception {
+        // Arrange
+        String email = uniqueEmail();
+        int employeeId = createEmployee(email);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/{id}", employeeId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.emailAddress").value(email))
+                .andExpect(jsonPath("$.notes[0]").value("First note"));
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].emailAddress", hasItem(email)));
+    }
+
+    @Test
+    public void findEmployee_afterUpdate_shouldReturnTheNewStateAndETag() throws Exception {
+        // Arrange
+        String email = uniqueEmail();
+        int employeeId = createEmployee(email);
+        EmployeeDTO update = employee(email, "Edited note");
+
+        // Act
+        mockMvc.perform(put("/api/employees/{id}", employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        // Assert
+        long version = employeeRepository.findById(employeeId).orElseThrow().getVersion();
+        mockMvc.perform(get("/api/employees/{id}", employeeId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + version + "\""))
+                .andExpect(jsonPath("$.notes[0]").value("Edited note"));
+    }
+
+    @Test
+    public void findEmployees_afterDelete_shouldNoLongerListTheEmployee() throws Exception {
+        // Arrange
+        String email = uniqueEmail();
+        int employeeId = createEmployee(email);
+
+        // Act
+        mockMvc.perform(delete("/api/employees/{id}", employeeId))
+                .andExpect(status().isNoContent());
+
+        // Assert
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].emailAddress", not(hasItem(email))));
+    }
+
+    @Test
+    public void findEmployees_afterBatchCreate_shouldListEveryNewEmployee() throws Exception {
+        // Arrange
+        String first = uniqueEmail();
+        String second = uniqueEmail();
+
+        // Act
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(
+                                employee(first, "First note"), employee(second, "First note")))))
+                .andExpect(status().isOk());
+
+        // Assert
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].emailAddress", hasItem(first)))
+                .andExpect(jsonPath("$[*].emailAddress", hasItem(second)));
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private int createEmployee(String email) throws Exception {
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employee(email, "First note"))))
+                .andExpect(status().isCreated());
+        return employeeRepository.findAll().stream()
+                .filter(employee -> email.equals(employee.getEmailAddress()))
+                .map(Employee::getEmployeeId)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private EmployeeDTO employee(String email, String note) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("John");
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setEmailAddress(email);
+        employeeDTO.setNotes(Collections.singletonList(note));
+        return employeeDTO;
+    }
+
+    private String uniqueEmail() {
+        return UUID.randomUUID() + "@example.com";
+    }
+}
@@ -0,0 +1,146 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.behavior.FindEmployee;
+import com.employee.api.behavior.FindEmployees;
+import com.employee.api.behavior.UpdateEmployee;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.internal.EmployeeRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Stress tests for single-flight loading.
+ *
+ * Many threads are released at once to ask for the same data, round after
+ * round, and Hibernate statistics count how many queries reached the
+ * database. Concurrent callers should share loads, so far fewer queries
+ * run than there are calls.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class, properties = "employee.entity-cache.statistics.enabled=true")
+@ActiveProfiles("h2")
+public class EmployeeSingleFlightStressTest {
+
+    private static final int EMPLOYEES = 2000;
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private FindEmployee findEmployee;
+
+    @Autowired
+    private FindEmployees findEmployees;
+
+    @Autowired
+    private UpdateEmployee updateEmployee;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @Before
+    public void setUp() {
+        employeeRepository.deleteAll();
+        jdbcTemplate.update("INSERT INTO EMPLOYEE (FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) "
+                + "SELECT 'First' || X, 'Stress', 'stress' || X || '@example.com' FROM SYSTEM_RANGE(1, ?)", EMPLOYEES);
+        jdbcTemplate.update("INSERT INTO NOTE (EMPLOYEE_ID, TEXT) "
+                + "SELECT EMPLOYEE_ID, 'Note for ' || FIRST_NAME FROM EMPLOYEE");
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void findEmployees_underContention_shouldShareDatabaseLoads() throws Exception {
+        // Arrange
+        long queriesBefore = statistics.getQueryExecutionCount();
+
+        // Act
+        int calls = callConcurrently(() -> { }, () -> assertEquals(EMPLOYEES, findEmployees.findEmployees().size()));
+
+        // Assert
+        long queries = statistics.getQueryExecutionCount() - queriesBefore;
+        assertTrue(queries + " queries for " + calls + " calls", queries <= calls / 2);
+    }
+
+    @Test
+    public void findEmployee_underContentionAfterEachUpdate_shouldShareDatabaseLoads() throws Exception {
+        // Arrange
+        int employeeId = jdbcTemplate.queryForObject("SELECT MIN(EMPLOYEE_ID) FROM EMPLOYEE", Integer.class);
+        EmployeeDTO unchanged = unchanged(findEmployee.findEmployee(employeeId));
+        long queriesBefore = statistics.getQueryExecutionCount();
+
+        // Act
+        // Each round starts with an update, which evicts the employee from the cache.
+        int calls = callConcurrently(
+                () -> updateEmployee.updateEmployee(employeeId, unchanged),
+                () -> assertEquals(Integer.valueOf(employeeId), findEmployee.findEmployee(employeeId).getEmployeeID()));
+
+        // Assert
+        long queries = statistics.getQueryExecutionCount() - queriesBefore;
+        assertTrue(queries + " queries for " + calls + " calls", queries <= calls / 2);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    // Releases THREADS callers at once, ROUNDS times, running beforeRound before each round.
+    private int callConcurrently(Runnable beforeRound, Runnable call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                beforeRound.run();
+                CyclicBarrier start = new CyclicBarrier(THREADS);
+                List<Future<?>> results = new ArrayList<>();
+                for (int thread = 0; thread < THREADS; thread++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        call.run();
+                        return null;
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get(30, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return THREADS * ROUNDS;
+    }
+
+    // A copy without a version, so the update neither changes anything nor checks the version.
+    private EmployeeDTO unchanged(EmployeeDTO employeeDTO) {
+        EmployeeDTO copy = new EmployeeDTO();
+        copy.setFirstName(employeeDTO.getFirstName());
+        copy.setLastName(employeeDTO.getLastName());
+        copy.setEmailAddress(employeeDTO.getEmailAddress());
+        copy.setNotes(employeeDTO.getNotes());
+        return copy;
+    }
+}
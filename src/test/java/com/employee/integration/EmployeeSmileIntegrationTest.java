@@ -0,0 +1,146 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.internal.Employee;
+import com.employee.internal.EmployeeRepository;
+import com.employee.internal.Note;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Smile binary format.
+ *
+ * These tests verify that the employee endpoints write Smile when it is
+ * asked for in Accept, read it when it is sent as the Content-Type, and
+ * still default to JSON.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@Transactional
+public class EmployeeSmileIntegrationTest {
+
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private ObjectMapper smileMapper;
+
+    @Before
+    public void setUp() {
+        employeeRepository.deleteAll();
+        smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+    }
+
+    @Test
+    public void getEmployees_acceptingSmile_shouldReturnSmile() throws Exception {
+        // Arrange
+        saveEmployee("John", "First note", "Second note");
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/employees").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Assert
+        List<EmployeeDTO> employees = smileMapper.readValue(body, new TypeReference<>() { });
+        assertEquals(1, employees.size());
+        assertEquals("John", employees.get(0).getFirstName());
+        assertEquals(Arrays.asList("First note", "Second note"), employees.get(0).getNotes());
+    }
+
+    @Test
+    public void getEmployee_acceptingSmile_shouldReturnSmile() throws Exception {
+        // Arrange
+        Employee saved = saveEmployee("John", "First note");
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/employees/{id}", saved.getEmployeeId()).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Assert
+        EmployeeDTO employee = smileMapper.readValue(body, EmployeeDTO.class);
+        assertEquals(saved.getEmployeeId(), employee.getEmployeeID());
+    }
+
+    @Test
+    public void createEmployee_withSmileBody_shouldCreateEmployee() throws Exception {
+        // Arrange
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("Jane");
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setEmailAddress("jane@example.com");
+        employeeDTO.setNotes(Arrays.asList("First note"));
+
+        // Act
+        mockMvc.perform(post("/api/employees")
+                        .contentType(SMILE)
+                        .content(smileMapper.writeValueAsBytes(employeeDTO)))
+                .andExpect(status().isCreated());
+
+        // Assert
+        List<Employee> employees = employeeRepository.findAll();
+        assertEquals(1, employees.size());
+        assertEquals("Jane", employees.get(0).getFirstName());
+        assertEquals("First note", employees.get(0).getNotes().get(0).getText());
+    }
+
+    @Test
+    public void getEmployees_withoutAccept_shouldStillReturnJson() throws Exception {
+        // Arrange
+        saveEmployee("John", "First note");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].firstName").value("John"));
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private Employee saveEmployee(String firstName, String... notes) {
+        Employee employee = new Employee();
+        employee.setFirstName(firstName);
+        employee.setLastName("Doe");
+        employee.setEmailAddress(firstName.toLowerCase() + "@example.com");
+        for (String text : notes) {
+            Note note = new Note();
+            note.setText(text);
+            employee.addNote(note);
+        }
+        return employeeRepository.save(employee);
+    }
+}
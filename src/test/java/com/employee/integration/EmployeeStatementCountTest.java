@@ -0,0 +1,283 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.internal.Employee;
+import com.employee.internal.EmployeeRepository;
+import com.employee.internal.Note;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement count tests for the Employee read paths.
+ *
+ * These tests use Hibernate statistics to verify that the number of
+ * SQL statements issued per request does not grow with the number of
+ * employees returned (no N+1 loading of notes), and that bulk writes
+ * are sent as JDBC batches rather than one statement per row. Updates
+ * should only write the rows and columns that actually changed, and a
+ * delete should not load the employee it removes. Reads should build
+ * their DTOs from projections without loading any entity.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class EmployeeStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @Before
+    public void setUp() {
+        employeeRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void findEmployees_statementCountShouldNotDependOnEmployeeCount() throws Exception {
+        // Arrange
+        saveEmployeesWithNotes(2);
+        long fewEmployees = countStatements("/api/employees", 2);
+
+        saveEmployeesWithNotes(20);
+        long manyEmployees = countStatements("/api/employees", 22);
+
+        // Assert
+        assertEquals(1, fewEmployees);
+        assertEquals(fewEmployees, manyEmployees);
+    }
+
+    @Test
+    public void findEmployeesPage_statementCountShouldNotDependOnPageSize() throws Exception {
+        // Arrange
+        saveEmployeesWithNotes(30);
+
+        // Act
+        long smallPage = countStatements("/api/employees?limit=2", "$.employees", 2);
+        long largePage = countStatements("/api/employees?limit=25", "$.employees", 25);
+
+        // Assert
+        assertEquals(2, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    public void findEndpoints_shouldNotLoadEntities() throws Exception {
+        // Arrange
+        // Inserted with SQL, so Hibernate's id blocks, which the batch test depends on, are left as they were.
+        jdbcTemplate.update("INSERT INTO EMPLOYEE (FIRST_NAME, LAST_NAME, EMAIL_ADDRESS) "
+                + "SELECT 'First' || X, 'Last' || X, 'employee' || X || '@example.com' FROM SYSTEM_RANGE(1, 5)");
+        jdbcTemplate.update("INSERT INTO NOTE (EMPLOYEE_ID, TEXT) SELECT EMPLOYEE_ID, 'First note' FROM EMPLOYEE");
+        jdbcTemplate.update("INSERT INTO NOTE (EMPLOYEE_ID, TEXT) SELECT EMPLOYEE_ID, 'Second note' FROM EMPLOYEE");
+        Integer employeeId = jdbcTemplate.queryForObject("SELECT MIN(EMPLOYEE_ID) FROM EMPLOYEE", Integer.class);
+        statistics.clear();
+
+        // Act
+        countStatements("/api/employees", 5);
+        countStatements("/api/employees?limit=3", "$.employees", 3);
+        mockMvc.perform(get("/api/employees/search").param("q", "first"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(5)));
+        mockMvc.perform(get("/api/employees/{id}", employeeId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notes", hasSize(2)));
+
+        // Assert
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    public void createEmployeesBatch_shouldBatchEmployeeAndNoteInserts() throws Exception {
+        // Arrange
+        List<EmployeeDTO> employeeDTOs = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            EmployeeDTO dto = new EmployeeDTO();
+            dto.setFirstName("First" + i);
+            dto.setLastName("Last" + i);
+            dto.setEmailAddress("employee" + i + "@example.com");
+            dto.setNotes(Arrays.asList("First note", "Second note"));
+            employeeDTOs.add(dto);
+        }
+        statistics.clear();
+
+        // Act
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employeeDTOs)))
+                .andExpect(status().isOk());
+
+        // Assert
+        // 40 employees, 80 notes and one change log entry per employee.
+        assertEquals(160, statistics.getEntityInsertCount());
+        assertTrue("statements: " + statistics.getPrepareStatementCount(),
+                statistics.getPrepareStatementCount() <= 6);
+        assertEquals(40, employeeRepository.count());
+    }
+
+    @Test
+    public void updateEmployee_withNoChanges_shouldIssueNoWrites() throws Exception {
+        // Arrange
+        Employee saved = saveEmployeesWithNotes(1).get(0);
+        EmployeeDTO unchanged = toDTO(saved, "First note", "Second note");
+        statistics.clear();
+
+        // Act
+        putEmployee(saved.getEmployeeId(), unchanged);
+
+        // Assert
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void updateEmployee_withOneChangedNote_shouldOnlyUpdateThatNote() throws Exception {
+        // Arrange
+        Employee saved = saveEmployeesWithNotes(1).get(0);
+        EmployeeDTO edited = toDTO(saved, "First note", "Edited note");
+        statistics.clear();
+
+        // Act
+        putEmployee(saved.getEmployeeId(), edited);
+
+        // Assert
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityInsertCount()); // the change log entry
+        assertEquals(0, statistics.getEntityDeleteCount());
+    }
+
+    @Test
+    public void updateEmployee_withRemovedNote_shouldOnlyDeleteThatNote() throws Exception {
+        // Arrange
+        Employee saved = saveEmployeesWithNotes(1).get(0);
+        EmployeeDTO edited = toDTO(saved, "Second note");
+        edited.setFirstName("Renamed");
+        statistics.clear();
+
+        // Act
+        putEmployee(saved.getEmployeeId(), edited);
+
+        // Assert
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityInsertCount()); // the change log entry
+        assertEquals(1, statistics.getEntityDeleteCount());
+    }
+
+    @Test
+    public void deleteEmployee_shouldUseTwoDeletesWithoutLoadingTheEmployee() throws Exception {
+        // Arrange
+        Employee saved = saveEmployeesWithNotes(1).get(0);
+        statistics.clear();
+
+        // Act
+        mockMvc.perform(delete("/api/employees/{id}", saved.getEmployeeId()))
+                .andExpect(status().isNoContent());
+
+        // Assert
+        // Two deletes, plus the sequence number allocation and insert for the change log.
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, employeeRepository.count());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void putEmployee(int employeeId, EmployeeDTO employeeDTO) throws Exception {
+        mockMvc.perform(put("/api/employees/{id}", employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employeeDTO)))
+                .andExpect(status().isOk());
+    }
+
+    private EmployeeDTO toDTO(Employee employee, String... notes) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setFirstName(employee.getFirstName());
+        dto.setLastName(employee.getLastName());
+        dto.setEmailAddress(employee.getEmailAddress());
+        dto.setNotes(Arrays.asList(notes));
+        return dto;
+    }
+
+    private long countStatements(String url, int expectedSize) throws Exception {
+        return countStatements(url, "$", expectedSize);
+    }
+
+    private long countStatements(String url, String listPath, int expectedSize) throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(listPath, hasSize(expectedSize)))
+                .andExpect(jsonPath(listPath + "[0].notes", hasSize(2)));
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Employee> saveEmployeesWithNotes(int count) {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Employee employee = new Employee();
+            employee.setFirstName("First" + i);
+            employee.setLastName("Last" + i);
+            employee.setEmailAddress("employee" + i + "@example.com");
+            addNote(employee, "First note");
+            addNote(employee, "Second note");
+            employees.add(employeeRepository.save(employee));
+        }
+        return employees;
+    }
+
+    private void addNote(Employee employee, String text) {
+        Note note = new Note();
+        note.setText(text);
+        employee.addNote(note);
+    }
+}
@@ -0,0 +1,131 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.model.EmployeeCreationDTO;
+import com.employee.api.model.EmployeeCreationStatus;
+import com.employee.api.model.EmployeeDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for write-behind employee creation.
+ *
+ * These tests verify that, with employee.create.async.enabled, a POST is
+ * answered with 202 and a status link, and that the employee can be read
+ * back once its creation reports CREATED. The writer commits on its own
+ * thread, so the tests run without a surrounding transaction and create
+ * employees with unique email addresses instead of clearing the tables.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class, properties = "employee.create.async.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class EmployeeWriteBehindIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void createEmployee_shouldBeAcceptedAndWrittenInTheBackground() throws Exception {
+        // Arrange
+        String email = uniqueEmail();
+
+        // Act
+        MvcResult result = mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employee(email))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists(HttpHeaders.LOCATION))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andReturn();
+
+        // Assert
+        EmployeeCreationDTO creation = awaitCreation(result.getResponse().getHeader(HttpHeaders.LOCATION));
+        assertEquals(EmployeeCreationStatus.CREATED, creation.getStatus());
+        mockMvc.perform(get("/api/employees/{id}", creation.getEmployeeID()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.emailAddress").value(email))
+                .andExpect(jsonPath("$.notes[0]").value("First note"));
+    }
+
+    @Test
+    public void findEmployeeCreation_withUnknownId_shouldReturnNotFound() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/creations/{id}", "unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void writeBehind_shouldReportQueueDepthAndBatchSizes() throws Exception {
+        // Arrange
+        MvcResult result = mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employee(uniqueEmail()))))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        awaitCreation(result.getResponse().getHeader(HttpHeaders.LOCATION));
+
+        // Act
+        double queueDepth = meterRegistry.get("employee.create.queue.depth").gauge().value();
+        long batches = meterRegistry.get("employee.create.batch.size").summary().count();
+
+        // Assert
+        assertEquals(0.0, queueDepth, 0.0);
+        assertTrue("batches: " + batches, batches >= 1);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private EmployeeCreationDTO awaitCreation(String location) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            String body = mockMvc.perform(get(location))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            EmployeeCreationDTO creation = objectMapper.readValue(body, EmployeeCreationDTO.class);
+            if (creation.getStatus() != EmployeeCreationStatus.QUEUED || System.currentTimeMillis() > deadline) {
+                return creation;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private EmployeeDTO employee(String email) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName("Queued");
+        employeeDTO.setLastName("Employee");
+        employeeDTO.setEmailAddress(email);
+        employeeDTO.setNotes(Collections.singletonList("First note"));
+        return employeeDTO;
+    }
+
+    private String uniqueEmail() {
+        return UUID.randomUUID() + "@example.com";
+    }
+}
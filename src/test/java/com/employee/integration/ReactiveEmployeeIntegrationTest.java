@@ -0,0 +1,161 @@
+package com.employee.integration;
+
+import com.Main;
+import com.employee.api.behavior.ReactiveFindEmployees;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.internal.Employee;
+import com.employee.internal.EmployeeRepository;
+import com.employee.internal.Note;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the reactive Employee read endpoints.
+ *
+ * The reactive endpoints read through R2DBC on their own connection pool,
+ * so they only see committed data. Test data is therefore saved through
+ * the JPA repository outside of a test transaction.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = Main.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class ReactiveEmployeeIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ReactiveFindEmployees reactiveFindEmployees;
+
+    @Before
+    public void setUp() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    public void findEmployees_shouldReturnEmployeesWithNotesAsJson() throws Exception {
+        // Arrange
+        Employee john = saveEmployee("John", "Doe", "First note", "Second note");
+        saveEmployee("Jane", "Smith");
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/reactive/employees").accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].employeeID", is(john.getEmployeeId())))
+                .andExpect(jsonPath("$[0].notes", contains("First note", "Second note")))
+                .andExpect(jsonPath("$[1].firstName", is("Jane")))
+                .andExpect(jsonPath("$[1].notes", hasSize(0)));
+    }
+
+    @Test
+    public void findEmployees_shouldStreamNewlineDelimitedJson() throws Exception {
+        // Arrange
+        saveEmployee("John", "Doe");
+        saveEmployee("Jane", "Smith");
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/reactive/employees").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        // Assert
+        String[] lines = result.getResponse().getContentAsString().trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"firstName\":\"John\""));
+        assertTrue(lines[1].contains("\"firstName\":\"Jane\""));
+    }
+
+    @Test
+    public void findEmployee_shouldReturnEmployee() throws Exception {
+        // Arrange
+        Employee john = saveEmployee("John", "Doe", "Note");
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/reactive/employees/" + john.getEmployeeId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName", is("John")))
+                .andExpect(jsonPath("$.notes", contains("Note")));
+    }
+
+    @Test
+    public void findEmployee_shouldReturnNotFoundForUnknownEmployee() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/reactive/employees/999"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void findEmployees_shouldGroupNotesCorrectlyUnderConcurrentReads() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            saveEmployee("First" + i, "Last" + i, "Note " + i, "Other note " + i);
+        }
+
+        // Act
+        List<List<EmployeeDTO>> results = Flux.range(0, 50)
+                .flatMap(i -> reactiveFindEmployees.findEmployees().collectList())
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        // Assert
+        assertEquals(50, results.size());
+        for (List<EmployeeDTO> employees : results) {
+            assertEquals(10, employees.size());
+            assertEquals(2, employees.get(9).getNotes().size());
+        }
+    }
+
+    private Employee saveEmployee(String firstName, String lastName, String... notes) {
+        Employee employee = new Employee();
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmailAddress(firstName.toLowerCase() + "@example.com");
+        for (String text : notes) {
+            Note note = new Note();
+            note.setText(text);
+            employee.addNote(note);
+        }
+        return employeeRepository.save(employee);
+    }
+}
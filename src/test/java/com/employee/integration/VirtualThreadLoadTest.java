@@ -0,0 +1,109 @@
+package com.employee.integration;
+
+import com.Main;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Load test for the virtual thread execution mode.
+ *
+ * Sends more concurrent requests than the 200 platform threads Tomcat is capped at,
+ * each blocking for one second (standing in for a slow JDBC call), and records how
+ * many are being handled at the same time. With platform threads that number can
+ * never exceed 200; with virtual threads it should not be limited by the pool.
+ *
+ * Skipped unless running on Java 21 or later.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(
+        classes = {Main.class, VirtualThreadLoadTest.BlockingEndpointConfiguration.class},
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "server.tomcat.threads.max=200"
+        })
+@ActiveProfiles("h2")
+public class VirtualThreadLoadTest {
+
+    private static final int CONCURRENT_REQUESTS = 400;
+    private static final Duration BLOCKING_TIME = Duration.ofSeconds(1);
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeClass
+    public static void requireVirtualThreads() {
+        assumeTrue("virtual threads need Java 21+", Runtime.version().feature() >= 21);
+    }
+
+    @Test
+    public void concurrentRequests_shouldExceedPlatformThreadCeiling() throws Exception {
+        // Arrange
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/test/blocking")).build();
+
+        // Act
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+
+        // Assert
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.get().statusCode());
+        }
+        int peak = BlockingController.PEAK_IN_FLIGHT.get();
+        assertTrue("peak in-flight requests: " + peak, peak > 200);
+    }
+
+    @TestConfiguration
+    static class BlockingEndpointConfiguration {
+
+        @Bean
+        BlockingController blockingController() {
+            return new BlockingController();
+        }
+    }
+
+    @RestController
+    static class BlockingController {
+
+        static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+        static final AtomicInteger PEAK_IN_FLIGHT = new AtomicInteger();
+
+        @GetMapping("/test/blocking")
+        public String block() throws InterruptedException {
+            PEAK_IN_FLIGHT.accumulateAndGet(IN_FLIGHT.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(BLOCKING_TIME.toMillis());
+            } finally {
+                IN_FLIGHT.decrementAndGet();
+            }
+            return "ok";
+        }
+    }
+}
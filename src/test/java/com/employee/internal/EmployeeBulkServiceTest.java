@@ -0,0 +1,199 @@
+package com.employee.internal;
+
+import com.employee.api.model.BulkItemResultDTO;
+import com.employee.api.model.BulkItemStatus;
+import com.employee.api.model.EmployeeDTO;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeBulkService.
+ *
+ * Repository, mapper, cache and entity manager are mocked - we're testing that the service:
+ * - Reports a result for every item, in request order
+ * - Rejects invalid items without touching the database
+ * - Flushes and clears the persistence context per chunk
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmployeeBulkServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Mock
+    private EmployeeChangeCounter employeeChangeCounter;
+
+    @Mock
+    private EmployeeChangeLog employeeChangeLog;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private EmployeeBulkService bulkService;
+
+    @Before
+    public void setUp() {
+        bulkService = new EmployeeBulkService(employeeRepository, employeeMapper, employeeCache, employeeChangeCounter, employeeChangeLog, entityManager);
+    }
+
+    // ========== BULK CREATE TESTS ==========
+
+    @Test
+    public void createEmployees_shouldReportCreatedAndInvalidItemsInOrder() {
+        // Arrange
+        EmployeeDTO valid = createEmployeeDTO(null, "John", "Doe", "john@example.com");
+        EmployeeDTO missingEmail = createEmployeeDTO(null, "Jane", "Smith", null);
+        Employee employee = new Employee();
+        when(employeeMapper.toEntity(valid)).thenReturn(employee);
+        when(employeeRepository.save(employee)).thenAnswer(invocation -> {
+            employee.setEmployeeId(55);
+            return employee;
+        });
+
+        // Act
+        List<BulkItemResultDTO> results = bulkService.createEmployees(Arrays.asList(valid, missingEmail));
+
+        // Assert
+        assertEquals(2, results.size());
+        assertEquals(BulkItemStatus.CREATED, results.get(0).getStatus());
+        assertEquals(Integer.valueOf(55), results.get(0).getEmployeeID());
+        assertEquals(BulkItemStatus.INVALID, results.get(1).getStatus());
+        assertEquals(1, results.get(1).getIndex());
+        assertEquals("emailAddress is required", results.get(1).getMessage());
+        verify(entityManager, atLeastOnce()).flush();
+    }
+
+    @Test
+    public void createEmployees_withExplicitId_shouldBeInvalid() {
+        // Act
+        List<BulkItemResultDTO> results = bulkService.createEmployees(
+                Collections.singletonList(createEmployeeDTO(7, "John", "Doe", "john@example.com")));
+
+        // Assert
+        assertEquals(BulkItemStatus.INVALID, results.get(0).getStatus());
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    public void createEmployees_shouldFlushOncePerChunk() {
+        // Arrange
+        EmployeeDTO dto = createEmployeeDTO(null, "John", "Doe", "john@example.com");
+        when(employeeMapper.toEntity(dto)).thenAnswer(invocation -> new Employee());
+        List<EmployeeDTO> dtos = Collections.nCopies(EmployeeBulkService.CHUNK_SIZE + 1, dto);
+
+        // Act
+        bulkService.createEmployees(dtos);
+
+        // Assert
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    // ========== BULK UPDATE TESTS ==========
+
+    @Test
+    public void updateEmployees_shouldReportUpdatedAndNotFound() {
+        // Arrange
+        EmployeeDTO existing = createEmployeeDTO(1, "John", "Doe", "john@example.com");
+        EmployeeDTO missing = createEmployeeDTO(2, "Jane", "Smith", "jane@example.com");
+        Employee employee = new Employee();
+        employee.setEmployeeId(1);
+        when(employeeRepository.findAllWithNotesByIdIn(Set.of(1, 2))).thenReturn(Collections.singletonList(employee));
+
+        // Act
+        List<BulkItemResultDTO> results = bulkService.updateEmployees(Arrays.asList(existing, missing));
+
+        // Assert
+        assertEquals(BulkItemStatus.UPDATED, results.get(0).getStatus());
+        assertEquals(BulkItemStatus.NOT_FOUND, results.get(1).getStatus());
+        verify(employeeMapper, times(1)).updateEntity(employee, existing);
+        verify(employeeCache, times(1)).evictAfterCommit(Set.of(1, 2));
+    }
+
+    @Test
+    public void updateEmployees_withoutId_shouldBeInvalid() {
+        // Act
+        List<BulkItemResultDTO> results = bulkService.updateEmployees(
+                Collections.singletonList(createEmployeeDTO(null, "John", "Doe", "john@example.com")));
+
+        // Assert
+        assertEquals(BulkItemStatus.INVALID, results.get(0).getStatus());
+        verify(employeeRepository, never()).findAllWithNotesByIdIn(any());
+    }
+
+    // ========== BULK DELETE TESTS ==========
+
+    @Test
+    public void deleteEmployees_shouldDeleteNotesThenEmployeesForExistingIds() {
+        // Arrange
+        when(employeeRepository.findExistingIds(Set.of(1, 2))).thenReturn(Collections.singletonList(1));
+
+        // Act
+        List<BulkItemResultDTO> results = bulkService.deleteEmployees(Arrays.asList(1, 2));
+
+        // Assert
+        assertEquals(BulkItemStatus.DELETED, results.get(0).getStatus());
+        assertEquals(BulkItemStatus.NOT_FOUND, results.get(1).getStatus());
+        verify(employeeRepository, times(1)).deleteNotesByEmployeeIds(Set.of(1));
+        verify(employeeRepository, times(1)).deleteAllByIdInBatch(Set.of(1));
+        verify(employeeCache, times(1)).evictAfterCommit(Set.of(1, 2));
+    }
+
+    @Test
+    public void deleteEmployees_whenNoneExist_shouldNotIssueDeletes() {
+        // Arrange
+        when(employeeRepository.findExistingIds(Set.of(9))).thenReturn(Collections.emptyList());
+
+        // Act
+        List<BulkItemResultDTO> results = bulkService.deleteEmployees(Collections.singletonList(9));
+
+        // Assert
+        assertEquals(BulkItemStatus.NOT_FOUND, results.get(0).getStatus());
+        verify(employeeRepository, never()).deleteNotesByEmployeeIds(any());
+        verify(employeeRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    public void deleteEmployees_withDuplicateId_shouldReportSecondAsNotFound() {
+        // Arrange
+        when(employeeRepository.findExistingIds(Set.of(1))).thenReturn(Collections.singletonList(1));
+
+        // Act
+        List<BulkItemResultDTO> results = bulkService.deleteEmployees(Arrays.asList(1, 1));
+
+        // Assert
+        assertEquals(BulkItemStatus.DELETED, results.get(0).getStatus());
+        assertEquals(BulkItemStatus.NOT_FOUND, results.get(1).getStatus());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private EmployeeDTO createEmployeeDTO(Integer id, String firstName, String lastName, String email) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setEmployeeID(id);
+        dto.setFirstName(firstName);
+        dto.setLastName(lastName);
+        dto.setEmailAddress(email);
+        dto.setNotes(Collections.emptyList());
+        return dto;
+    }
+}
@@ -0,0 +1,54 @@
+package com.employee.internal;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for EmployeeChangeCounter.
+ *
+ * These tests verify that a change outside a transaction is counted at
+ * once, and that a change inside one is only counted after it commits.
+ */
+public class EmployeeChangeCounterTest {
+
+    private final EmployeeChangeCounter counter = new EmployeeChangeCounter();
+
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void recordChange_outsideTransaction_shouldChangeCurrentAtOnce() {
+        // Arrange
+        String before = counter.current();
+
+        // Act
+        counter.recordChange();
+
+        // Assert
+        assertNotEquals(before, counter.current());
+    }
+
+    @Test
+    public void recordChange_insideTransaction_shouldOnlyChangeCurrentAfterCommit() {
+        // Arrange
+        String before = counter.current();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        counter.recordChange();
+        String beforeCommit = counter.current();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(before, beforeCommit);
+        assertNotEquals(before, counter.current());
+    }
+}
@@ -0,0 +1,204 @@
+package com.employee.internal;
+
+import com.employee.api.model.BulkItemResultDTO;
+import com.employee.api.model.BulkItemStatus;
+import com.employee.api.model.EmployeeChangeType;
+import com.employee.api.model.EmployeeDTO;
+import com.employee.api.model.EmployeeImportDTO;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeImportService.
+ *
+ * Repository, mapper, change tracking and transactions are mocked - we're testing that the service:
+ * - Writes valid rows a chunk at a time and reports progress after each chunk
+ * - Counts and reports invalid and unreadable rows without stopping
+ * - Retries a failed chunk row by row so only the bad row is lost
+ * - Keeps no more than MAX_ERRORS problems in its report
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmployeeImportServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private EmployeeChangeCounter employeeChangeCounter;
+
+    @Mock
+    private EmployeeChangeLog employeeChangeLog;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmployeeImportService importService;
+
+    private final List<EmployeeImportDTO> progress = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        importService = new EmployeeImportService(employeeRepository, employeeMapper, employeeChangeCounter,
+                employeeChangeLog, entityManager, transactionManager, CHUNK_SIZE);
+    }
+
+    @Test
+    public void importEmployees_shouldWriteChunksAndReportProgressAfterEach() {
+        // Arrange
+        stubSaveAssigningIds();
+
+        // Act
+        EmployeeImportDTO result = importService.importEmployees(rows(
+                createEmployeeDTO("John"), createEmployeeDTO("Jane"), createEmployeeDTO("Bob")), progress::add);
+
+        // Assert
+        assertEquals(3, result.getRowsRead());
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getInvalid());
+        assertTrue(result.isComplete());
+        assertEquals(2, progress.size());
+        assertEquals(2, progress.get(0).getImported());
+        assertFalse(progress.get(0).isComplete());
+        assertSame(result, progress.get(1));
+        verify(transactionManager, times(2)).commit(any());
+        verify(employeeChangeLog).record(Arrays.asList(1, 2), EmployeeChangeType.CREATED);
+        verify(employeeChangeLog).record(Collections.singletonList(3), EmployeeChangeType.CREATED);
+        verify(employeeChangeCounter, times(2)).recordChange();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    public void importEmployees_shouldReportInvalidAndUnreadableRowsAndCarryOn() {
+        // Arrange
+        stubSaveAssigningIds();
+        EmployeeDTO missingEmail = createEmployeeDTO("Jane");
+        missingEmail.setEmailAddress(null);
+        Iterator<EmployeeDTO> employees = Arrays.asList(
+                createEmployeeDTO("John"), null, missingEmail, createEmployeeDTO("Bob")).iterator();
+        Iterator<EmployeeDTO> withUnreadableRow = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return employees.hasNext();
+            }
+
+            @Override
+            public EmployeeDTO next() {
+                EmployeeDTO next = employees.next();
+                if (next == null) {
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                return next;
+            }
+        };
+
+        // Act
+        EmployeeImportDTO result = importService.importEmployees(withUnreadableRow, progress::add);
+
+        // Assert
+        assertEquals(4, result.getRowsRead());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getInvalid());
+        List<BulkItemResultDTO> errors = result.getErrors();
+        assertEquals(2, errors.size());
+        assertEquals(1, errors.get(0).getIndex());
+        assertEquals(BulkItemStatus.INVALID, errors.get(0).getStatus());
+        assertEquals("Unterminated quoted field", errors.get(0).getMessage());
+        assertEquals(2, errors.get(1).getIndex());
+        assertEquals("emailAddress is required", errors.get(1).getMessage());
+    }
+
+    @Test
+    public void importEmployees_whenChunkFails_shouldRetryRowByRow() {
+        // Arrange
+        EmployeeDTO john = createEmployeeDTO("John");
+        EmployeeDTO bad = createEmployeeDTO("Bad");
+        Employee johnEntity = new Employee();
+        Employee badEntity = new Employee();
+        when(employeeMapper.toEntity(john)).thenReturn(johnEntity);
+        when(employeeMapper.toEntity(bad)).thenReturn(badEntity);
+        when(employeeRepository.save(johnEntity)).thenAnswer(invocation -> {
+            johnEntity.setEmployeeId(1);
+            return johnEntity;
+        });
+        when(employeeRepository.save(badEntity)).thenThrow(new PersistenceException("value too long"));
+
+        // Act
+        EmployeeImportDTO result = importService.importEmployees(rows(john, bad), progress::add);
+
+        // Assert
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getInvalid());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals(EmployeeImportService.FAILED_MESSAGE, result.getErrors().get(0).getMessage());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(employeeChangeLog).record(Collections.singletonList(1), EmployeeChangeType.CREATED);
+    }
+
+    @Test
+    public void importEmployees_withManyInvalidRows_shouldKeepOnlyTheFirstErrors() {
+        // Arrange
+        List<EmployeeDTO> employees = new ArrayList<>();
+        for (int i = 0; i < EmployeeImportService.MAX_ERRORS + 50; i++) {
+            employees.add(null);
+        }
+
+        // Act
+        EmployeeImportDTO result = importService.importEmployees(employees.iterator(), progress::add);
+
+        // Assert
+        assertEquals(EmployeeImportService.MAX_ERRORS + 50, result.getInvalid());
+        assertEquals(EmployeeImportService.MAX_ERRORS, result.getErrors().size());
+        assertEquals(0, result.getImported());
+        verifyNoInteractions(employeeRepository, transactionManager);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private void stubSaveAssigningIds() {
+        AtomicInteger ids = new AtomicInteger();
+        when(employeeMapper.toEntity(any())).thenAnswer(invocation -> new Employee());
+        when(employeeRepository.save(any())).thenAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            employee.setEmployeeId(ids.incrementAndGet());
+            return employee;
+        });
+    }
+
+    private Iterator<EmployeeDTO> rows(EmployeeDTO... employeeDTOs) {
+        return Arrays.asList(employeeDTOs).iterator();
+    }
+
+    private EmployeeDTO createEmployeeDTO(String firstName) {
+        EmployeeDTO employeeDTO = new EmployeeDTO();
+        employeeDTO.setFirstName(firstName);
+        employeeDTO.setLastName("Doe");
+        employeeDTO.setEmailAddress(firstName.toLowerCase() + "@example.com");
+        return employeeDTO;
+    }
+}
@@ -1,6 +1,7 @@
 package com.employee.internal;
 
 import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -22,7 +23,7 @@ public class EmployeeMapperTest {
 
     @Before
     public void setUp() {
-        mapper = new EmployeeMapper();
+        mapper = new EmployeeMapper(new SimpleMeterRegistry());
     }
 
     // ========== TO ENTITY TESTS ==========
@@ -161,6 +162,208 @@ public class EmployeeMapperTest {
         assertTrue(dto.getNotes().isEmpty());
     }
 
+    @Test
+    public void toDTO_fromRow_shouldMapFieldsAndNotes() {
+        // Arrange
+        EmployeeRow row = new EmployeeRow();
+        row.setEmployeeId(1);
+        row.setFirstName("Jane");
+        row.setLastName("Smith");
+        row.setEmailAddress("jane@example.com");
+        row.getNotes().add("First note");
+        row.getNotes().add("Second note");
+
+        // Act
+        EmployeeDTO dto = mapper.toDTO(row);
+
+        // Assert
+        assertEquals(Integer.valueOf(1), dto.getEmployeeID());
+        assertEquals("Jane", dto.getFirstName());
+        assertEquals("Smith", dto.getLastName());
+        assertEquals("jane@example.com", dto.getEmailAddress());
+        assertEquals(Arrays.asList("First note", "Second note"), dto.getNotes());
+    }
+
+    @Test
+    public void toDTOs_shouldGroupRowsIntoEmployeesWithTheirNotes() {
+        // Arrange
+        List<EmployeeNoteRow> rows = Arrays.asList(
+                new EmployeeNoteRow(1, "Jane", "Smith", "jane@example.com", 3, 10, "First note"),
+                new EmployeeNoteRow(1, "Jane", "Smith", "jane@example.com", 3, 11, "Second note"),
+                new EmployeeNoteRow(2, "John", "Doe", "john@example.com", 0, 12, "Only note"));
+
+        // Act
+        List<EmployeeDTO> dtos = mapper.toDTOs(rows);
+
+        // Assert
+        assertEquals(2, dtos.size());
+        assertEquals(Integer.valueOf(1), dtos.get(0).getEmployeeID());
+        assertEquals("Smith", dtos.get(0).getLastName());
+        assertEquals(Long.valueOf(3), dtos.get(0).getVersion());
+        assertEquals(Arrays.asList("First note", "Second note"), dtos.get(0).getNotes());
+        assertEquals("john@example.com", dtos.get(1).getEmailAddress());
+        assertEquals(Arrays.asList("Only note"), dtos.get(1).getNotes());
+    }
+
+    @Test
+    public void toDTOs_withoutNote_shouldReturnEmptyNotesList() {
+        // Arrange
+        List<EmployeeNoteRow> rows = Arrays.asList(
+                new EmployeeNoteRow(1, "Jane", "Smith", "jane@example.com", 0, null, null),
+                new EmployeeNoteRow(2, "John", "Doe", "john@example.com", 0, 12, null));
+
+        // Act
+        List<EmployeeDTO> dtos = mapper.toDTOs(rows);
+
+        // Assert
+        assertTrue(dtos.get(0).getNotes().isEmpty());
+        assertEquals(Collections.singletonList(null), dtos.get(1).getNotes());
+    }
+
+    // ========== UPDATE ENTITY TESTS ==========
+
+    @Test
+    public void updateEntity_shouldCopyChangedScalarFields() {
+        // Arrange
+        Employee entity = createEmployee(1, "John", "Doe", "john@example.com");
+        EmployeeDTO dto = createEmployeeDTO(1, "Johnny", "Doe", "johnny@example.com");
+
+        // Act
+        mapper.updateEntity(entity, dto);
+
+        // Assert
+        assertEquals("Johnny", entity.getFirstName());
+        assertEquals("Doe", entity.getLastName());
+        assertEquals("johnny@example.com", entity.getEmailAddress());
+        assertEquals(Integer.valueOf(1), entity.getEmployeeId());
+    }
+
+    @Test
+    public void updateEntity_shouldReportWhatChanged() {
+        // Arrange
+        Employee entity = createEmployee(1, "John", "Doe", "john@example.com");
+        addNoteToEmployee(entity, "First note");
+        EmployeeDTO same = createEmployeeDTO(1, "John", "Doe", "john@example.com");
+        same.setNotes(Arrays.asList("First note"));
+        EmployeeDTO editedNote = createEmployeeDTO(1, "John", "Doe", "john@example.com");
+        editedNote.setNotes(Arrays.asList("Edited note"));
+        EmployeeDTO renamed = createEmployeeDTO(1, "Johnny", "Doe", "john@example.com");
+        renamed.setNotes(Arrays.asList("Edited note"));
+
+        // Act & Assert
+        assertEquals(EmployeeMapper.Update.UNCHANGED, mapper.updateEntity(entity, same));
+        assertEquals(EmployeeMapper.Update.NOTES_CHANGED, mapper.updateEntity(entity, editedNote));
+        assertEquals(EmployeeMapper.Update.EMPLOYEE_CHANGED, mapper.updateEntity(entity, renamed));
+    }
+
+    @Test
+    public void updateEntity_withSameNotes_shouldKeepExistingNoteInstances() {
+        // Arrange
+        Employee entity = createEmployee(1, "John", "Doe", "john@example.com");
+        addNoteToEmployee(entity, "First note");
+        addNoteToEmployee(entity, "Second note");
+        List<Note> originalNotes = List.copyOf(entity.getNotes());
+        EmployeeDTO dto = createEmployeeDTO(1, "John", "Doe", "john@example.com");
+        dto.setNotes(Arrays.asList("First note", "Second note"));
+
+        // Act
+        EmployeeMapper.Update update = mapper.updateEntity(entity, dto);
+
+        // Assert
+        assertEquals(EmployeeMapper.Update.UNCHANGED, update);
+        assertEquals(originalNotes, entity.getNotes());
+    }
+
+    @Test
+    public void updateEntity_withReorderedNotes_shouldStoreTheNewOrder() {
+        // Arrange
+        Employee entity = createEmployee(1, "John", "Doe", "john@example.com");
+        addNoteToEmployee(entity, "First note");
+        addNoteToEmployee(entity, "Second note");
+        List<Note> originalNotes = List.copyOf(entity.getNotes());
+        EmployeeDTO dto = createEmployeeDTO(1, "John", "Doe", "john@example.com");
+        dto.setNotes(Arrays.asList("Second note", "First note"));
+
+        // Act
+        EmployeeMapper.Update update = mapper.updateEntity(entity, dto);
+
+        // Assert
+        assertEquals(EmployeeMapper.Update.NOTES_CHANGED, update);
+        assertEquals(originalNotes, entity.getNotes());
+        assertEquals("Second note", entity.getNotes().get(0).getText());
+        assertEquals("First note", entity.getNotes().get(1).getText());
+    }
+
+    @Test
+    public void updateEntity_withChangedNote_shouldReuseNoteInstance() {
+        // Arrange
+        Employee entity = createEmployee(1, "John", "Doe", "john@example.com");
+        addNoteToEmployee(entity, "First note");
+        addNoteToEmployee(entity, "Second note");
+        Note secondNote = entity.getNotes().get(1);
+        EmployeeDTO dto = createEmployeeDTO(1, "John", "Doe", "john@example.com");
+        dto.setNotes(Arrays.asList("First note", "Edited note"));
+
+        // Act
+        mapper.updateEntity(entity, dto);
+
+        // Assert
+        assertEquals(2, entity.getNotes().size());
+        assertSame(secondNote, entity.getNotes().get(1));
+        assertEquals("Edited note", secondNote.getText());
+    }
+
+    @Test
+    public void updateEntity_withRemovedNote_shouldDetachOnlyThatNote() {
+        // Arrange
+        Employee entity = createEmployee(1, "John", "Doe", "john@example.com");
+        addNoteToEmployee(entity, "First note");
+        addNoteToEmployee(entity, "Second note");
+        Note firstNote = entity.getNotes().get(0);
+        EmployeeDTO dto = createEmployeeDTO(1, "John", "Doe", "john@example.com");
+        dto.setNotes(Collections.singletonList("Second note"));
+
+        // Act
+        mapper.updateEntity(entity, dto);
+
+        // Assert
+        assertEquals(1, entity.getNotes().size());
+        assertEquals("Second note", entity.getNotes().get(0).getText());
+        assertNull(firstNote.getEmployee());
+    }
+
+    @Test
+    public void updateEntity_withAddedNote_shouldAppendNewNote() {
+        // Arrange
+        Employee entity = createEmployee(1, "John", "Doe", "john@example.com");
+        addNoteToEmployee(entity, "First note");
+        EmployeeDTO dto = createEmployeeDTO(1, "John", "Doe", "john@example.com");
+        dto.setNotes(Arrays.asList("First note", "New note"));
+
+        // Act
+        mapper.updateEntity(entity, dto);
+
+        // Assert
+        assertEquals(2, entity.getNotes().size());
+        assertEquals("New note", entity.getNotes().get(1).getText());
+        assertSame(entity, entity.getNotes().get(1).getEmployee());
+    }
+
+    @Test
+    public void updateEntity_withNullNotes_shouldRemoveAllNotes() {
+        // Arrange
+        Employee entity = createEmployee(1, "John", "Doe", "john@example.com");
+        addNoteToEmployee(entity, "First note");
+        EmployeeDTO dto = createEmployeeDTO(1, "John", "Doe", "john@example.com");
+        dto.setNotes(null);
+
+        // Act
+        mapper.updateEntity(entity, dto);
+
+        // Assert
+        assertTrue(entity.getNotes().isEmpty());
+    }
+
     // ========== ROUND TRIP TESTS ==========
 
     @Test
@@ -0,0 +1,104 @@
+package com.employee.internal;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for EmployeeReplicaTable.
+ *
+ * These tests verify lookups, id ordering and that applying changes
+ * builds a new snapshot without touching the one readers already hold.
+ */
+public class EmployeeReplicaTableTest {
+
+    @Test
+    public void get_whenEmpty_shouldReturnNull() {
+        // Act & Assert
+        assertNull(EmployeeReplicaTable.EMPTY.get(1));
+        assertEquals(0, EmployeeReplicaTable.EMPTY.size());
+    }
+
+    @Test
+    public void with_manyEmployees_shouldFindEachByIdAndIterateInIdOrder() {
+        // Arrange
+        SortedMap<Integer, ReplicaEmployee> changes = new TreeMap<>();
+        for (int id = 5000; id >= 1; id--) {
+            changes.put(id * 7, createEmployee(id * 7));
+        }
+
+        // Act
+        EmployeeReplicaTable table = EmployeeReplicaTable.EMPTY.with(changes);
+
+        // Assert
+        assertEquals(5000, table.size());
+        for (int id = 1; id <= 5000; id++) {
+            assertEquals(id * 7, table.get(id * 7).getEmployeeId());
+            assertNull(table.get(id * 7 + 1));
+        }
+        List<Integer> ids = idsOf(table);
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1) < ids.get(i));
+        }
+    }
+
+    @Test
+    public void with_shouldAddReplaceAndRemoveWithoutChangingTheOldSnapshot() {
+        // Arrange
+        EmployeeReplicaTable original = EmployeeReplicaTable.EMPTY.with(changes(1, 2, 3));
+        ReplicaEmployee replacement = new ReplicaEmployee(2, "Jane", "Doe", "jane@example.com", new String[0], 1);
+        SortedMap<Integer, ReplicaEmployee> changes = new TreeMap<>();
+        changes.put(1, null);
+        changes.put(2, replacement);
+        changes.put(4, createEmployee(4));
+
+        // Act
+        EmployeeReplicaTable updated = original.with(changes);
+
+        // Assert
+        assertEquals(List.of(2, 3, 4), idsOf(updated));
+        assertNull(updated.get(1));
+        assertSame(replacement, updated.get(2));
+        assertEquals(List.of(1, 2, 3), idsOf(original));
+        assertEquals("John", original.get(2).getFirstName());
+    }
+
+    @Test
+    public void with_removingAnUnknownId_shouldIgnoreIt() {
+        // Arrange
+        EmployeeReplicaTable original = EmployeeReplicaTable.EMPTY.with(changes(1, 2));
+        SortedMap<Integer, ReplicaEmployee> changes = new TreeMap<>();
+        changes.put(9, null);
+
+        // Act
+        EmployeeReplicaTable updated = original.with(changes);
+
+        // Assert
+        assertEquals(List.of(1, 2), idsOf(updated));
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private SortedMap<Integer, ReplicaEmployee> changes(int... employeeIds) {
+        SortedMap<Integer, ReplicaEmployee> changes = new TreeMap<>();
+        for (int employeeId : employeeIds) {
+            changes.put(employeeId, createEmployee(employeeId));
+        }
+        return changes;
+    }
+
+    private List<Integer> idsOf(EmployeeReplicaTable table) {
+        List<Integer> ids = new ArrayList<>();
+        table.forEach(employee -> ids.add(employee.getEmployeeId()));
+        return ids;
+    }
+
+    private ReplicaEmployee createEmployee(int employeeId) {
+        return new ReplicaEmployee(employeeId, "John", "Doe", "john@example.com", new String[]{"First note"}, 0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.employee.internal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeReplica's catch-up.
+ *
+ * The repositories are mocked - we're testing that requestCatchUp:
+ * - Applies the logged changes before the writer returns
+ * - Logs a failed catch-up instead of failing the write that asked for it
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmployeeReplicaTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeChangeRepository employeeChangeRepository;
+
+    private EmployeeReplica replica;
+
+    @Before
+    public void setUp() {
+        replica = new EmployeeReplica(employeeRepository, employeeChangeRepository,
+                new EmployeeMapper(new SimpleMeterRegistry()), Duration.ofSeconds(5));
+    }
+
+    @After
+    public void tearDown() {
+        replica.shutdown();
+    }
+
+    @Test
+    public void requestCatchUp_shouldApplyLoggedChangesBeforeReturning() {
+        // Arrange
+        EmployeeChange change = new EmployeeChange();
+        change.setSequenceNumber(1L);
+        change.setEmployeeId(1);
+        Employee employee = new Employee();
+        employee.setEmployeeId(1);
+        employee.setFirstName("John");
+        when(employeeChangeRepository.findAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(change));
+        when(employeeRepository.findAllWithNotesByIdIn(Set.of(1))).thenReturn(List.of(employee));
+
+        // Act
+        replica.requestCatchUp();
+
+        // Assert
+        assertEquals(1, replica.size());
+        assertEquals("John", replica.findEmployee(1).getFirstName());
+    }
+
+    @Test
+    public void requestCatchUp_whenCatchUpFails_shouldReturnWithoutThrowing() {
+        // Arrange
+        when(employeeChangeRepository.findAfter(anyLong(), any(Pageable.class)))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        replica.requestCatchUp();
+        replica.requestCatchUp();
+
+        // Assert
+        verify(employeeChangeRepository, times(2)).findAfter(anyLong(), any(Pageable.class));
+        assertEquals(0, replica.size());
+    }
+}
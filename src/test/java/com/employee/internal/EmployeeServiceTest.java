@@ -1,16 +1,33 @@
 package com.employee.internal;
 
+import com.employee.api.model.EmployeeChangeType;
 import com.employee.api.model.EmployeeDTO;
+import com.employee.api.model.EmployeePageDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +51,20 @@ public class EmployeeServiceTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Mock
+    private EmployeeChangeCounter employeeChangeCounter;
+
+    @Mock
+    private EmployeeChangeLog employeeChangeLog;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private EmployeeService employeeService;
 
     private Employee sampleEmployee;
@@ -41,7 +72,9 @@ public class EmployeeServiceTest {
 
     @Before
     public void setUp() {
-        employeeService = new EmployeeService(employeeRepository, employeeMapper);
+        meterRegistry = new SimpleMeterRegistry();
+        employeeService = new EmployeeService(employeeRepository, employeeMapper, employeeCache, employeeChangeCounter, employeeChangeLog, entityManager,
+                meterRegistry, Duration.ofSeconds(5));
 
         sampleEmployee = createSampleEmployee(1, "John", "Doe", "john.doe@example.com");
         sampleEmployeeDTO = createSampleEmployeeDTO(1, "John", "Doe", "john.doe@example.com");
@@ -75,19 +108,45 @@ public class EmployeeServiceTest {
         verify(employeeRepository, times(1)).save(sampleEmployee);
     }
 
+    @Test
+    public void createEmployee_withExplicitId_shouldEvictCachedEmployee() {
+        // Arrange
+        when(employeeMapper.toEntity(sampleEmployeeDTO)).thenReturn(sampleEmployee);
+
+        // Act
+        employeeService.createEmployee(sampleEmployeeDTO);
+
+        // Assert
+        verify(employeeCache, times(1)).evictAfterCommit(1);
+    }
+
+    @Test
+    public void createEmployee_shouldLogTheNewEmployee() {
+        // Arrange
+        EmployeeDTO newEmployeeDTO = createSampleEmployeeDTO(null, "John", "Doe", "john.doe@example.com");
+        when(employeeMapper.toEntity(newEmployeeDTO)).thenReturn(sampleEmployee);
+
+        // Act
+        employeeService.createEmployee(newEmployeeDTO);
+
+        // Assert
+        verify(employeeChangeLog, times(1)).record(1, EmployeeChangeType.CREATED);
+    }
+
     // ========== FIND ALL EMPLOYEES TESTS ==========
 
     @Test
     public void findEmployees_shouldReturnAllEmployeesAsDTOs() {
         // Arrange
-        Employee employee1 = createSampleEmployee(1, "John", "Doe", "john@example.com");
-        Employee employee2 = createSampleEmployee(2, "Jane", "Smith", "jane@example.com");
+        when(employeeChangeCounter.current()).thenReturn("0");
+        List<EmployeeNoteRow> rows = Arrays.asList(
+                createSampleRow(1, "John", "Doe", "john@example.com"),
+                createSampleRow(2, "Jane", "Smith", "jane@example.com"));
         EmployeeDTO dto1 = createSampleEmployeeDTO(1, "John", "Doe", "john@example.com");
         EmployeeDTO dto2 = createSampleEmployeeDTO(2, "Jane", "Smith", "jane@example.com");
 
-        when(employeeRepository.findAll()).thenReturn(Arrays.asList(employee1, employee2));
-        when(employeeMapper.toDTO(employee1)).thenReturn(dto1);
-        when(employeeMapper.toDTO(employee2)).thenReturn(dto2);
+        when(employeeRepository.findAllRows()).thenReturn(rows);
+        when(employeeMapper.toDTOs(rows)).thenReturn(Arrays.asList(dto1, dto2));
 
         // Act
         List<EmployeeDTO> result = employeeService.findEmployees();
@@ -101,7 +160,8 @@ public class EmployeeServiceTest {
     @Test
     public void findEmployees_whenNoEmployees_shouldReturnEmptyList() {
         // Arrange
-        when(employeeRepository.findAll()).thenReturn(Collections.emptyList());
+        when(employeeChangeCounter.current()).thenReturn("0");
+        when(employeeRepository.findAllRows()).thenReturn(Collections.emptyList());
 
         // Act
         List<EmployeeDTO> result = employeeService.findEmployees();
@@ -111,15 +171,130 @@ public class EmployeeServiceTest {
     }
 
     @Test
-    public void findEmployees_shouldCallRepositoryFindAll() {
+    public void findEmployees_shouldLoadNotesInSameQuery() {
         // Arrange
-        when(employeeRepository.findAll()).thenReturn(Collections.emptyList());
+        when(employeeChangeCounter.current()).thenReturn("0");
+        when(employeeRepository.findAllRows()).thenReturn(Collections.emptyList());
 
         // Act
         employeeService.findEmployees();
 
         // Assert
-        verify(employeeRepository, times(1)).findAll();
+        verify(employeeRepository, times(1)).findAllRows();
+        verifyNoMoreInteractions(employeeRepository);
+    }
+
+    // ========== FIND EMPLOYEES PAGE TESTS ==========
+
+    @Test
+    public void findEmployeesPage_shouldFetchOneIdBeyondLimit() {
+        // Arrange
+        when(employeeRepository.findPageIdsAfter(0, PageRequest.of(0, 3))).thenReturn(Collections.emptyList());
+
+        // Act
+        employeeService.findEmployeesPage(null, 2);
+
+        // Assert
+        verify(employeeRepository, times(1)).findPageIdsAfter(0, PageRequest.of(0, 3));
+    }
+
+    @Test
+    public void findEmployeesPage_whenMoreRowsExist_shouldReturnNextCursor() {
+        // Arrange
+        List<EmployeeNoteRow> rows = Arrays.asList(
+                createSampleRow(4, "John", "Doe", "john@example.com"),
+                createSampleRow(7, "Jane", "Smith", "jane@example.com"));
+        when(employeeRepository.findPageIdsAfter(3, PageRequest.of(0, 3))).thenReturn(Arrays.asList(4, 7, 9));
+        when(employeeRepository.findRowsByIdIn(Arrays.asList(4, 7))).thenReturn(rows);
+        when(employeeMapper.toDTOs(rows)).thenReturn(Arrays.asList(sampleEmployeeDTO, sampleEmployeeDTO));
+
+        // Act
+        EmployeePageDTO page = employeeService.findEmployeesPage(3, 2);
+
+        // Assert
+        assertEquals(2, page.getEmployees().size());
+        assertEquals(Integer.valueOf(7), page.getNextCursor());
+    }
+
+    @Test
+    public void findEmployeesPage_whenLastPage_shouldReturnNullCursor() {
+        // Arrange
+        when(employeeRepository.findPageIdsAfter(0, PageRequest.of(0, 3))).thenReturn(Collections.singletonList(1));
+        List<EmployeeNoteRow> rows = Collections.singletonList(createSampleRow(1, "John", "Doe", "john@example.com"));
+        when(employeeRepository.findRowsByIdIn(Collections.singletonList(1))).thenReturn(rows);
+        when(employeeMapper.toDTOs(rows)).thenReturn(Collections.singletonList(sampleEmployeeDTO));
+
+        // Act
+        EmployeePageDTO page = employeeService.findEmployeesPage(null, 2);
+
+        // Assert
+        assertEquals(1, page.getEmployees().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void findEmployeesPage_whenEmpty_shouldNotLoadEmployees() {
+        // Arrange
+        when(employeeRepository.findPageIdsAfter(0, PageRequest.of(0, 3))).thenReturn(Collections.emptyList());
+
+        // Act
+        EmployeePageDTO page = employeeService.findEmployeesPage(0, 2);
+
+        // Assert
+        assertTrue(page.getEmployees().isEmpty());
+        verify(employeeRepository, never()).findRowsByIdIn(any());
+    }
+
+    @Test
+    public void findEmployeesPage_shouldCapLimit() {
+        // Arrange
+        PageRequest capped = PageRequest.of(0, EmployeeService.MAX_PAGE_SIZE + 1);
+        when(employeeRepository.findPageIdsAfter(0, capped)).thenReturn(Collections.emptyList());
+
+        // Act
+        employeeService.findEmployeesPage(0, Integer.MAX_VALUE);
+
+        // Assert
+        verify(employeeRepository, times(1)).findPageIdsAfter(0, capped);
+    }
+
+    // ========== SEARCH EMPLOYEES TESTS ==========
+
+    @Test
+    public void searchEmployees_shouldSearchLowerCasePrefixFromCursor() {
+        // Arrange
+        when(employeeRepository.searchPageIdsAfter("jo%", 3, 3)).thenReturn(Arrays.asList(4, 7, 9));
+        List<EmployeeNoteRow> rows = Arrays.asList(
+                createSampleRow(4, "John", "Doe", "john@example.com"),
+                createSampleRow(7, "Joe", "Smith", "joe@example.com"));
+        when(employeeRepository.findRowsByIdIn(Arrays.asList(4, 7))).thenReturn(rows);
+        when(employeeMapper.toDTOs(rows)).thenReturn(Arrays.asList(sampleEmployeeDTO, sampleEmployeeDTO));
+
+        // Act
+        EmployeePageDTO page = employeeService.searchEmployees(" Jo ", 3, 2);
+
+        // Assert
+        assertEquals(2, page.getEmployees().size());
+        assertEquals(Integer.valueOf(7), page.getNextCursor());
+    }
+
+    @Test
+    public void searchEmployees_whenNoMatches_shouldNotLoadEmployees() {
+        // Arrange
+        when(employeeRepository.searchPageIdsAfter("zz%", 0, 21)).thenReturn(Collections.emptyList());
+
+        // Act
+        EmployeePageDTO page = employeeService.searchEmployees("zz", null, 20);
+
+        // Assert
+        assertTrue(page.getEmployees().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(employeeRepository, never()).findRowsByIdIn(any());
+    }
+
+    @Test
+    public void toPrefixPattern_shouldEscapeLikeWildcards() {
+        assertEquals("50\\%\\_off\\\\%", EmployeeService.toPrefixPattern("50%_OFF\\"));
     }
 
     // ========== FIND EMPLOYEE BY ID TESTS ==========
@@ -127,8 +302,9 @@ public class EmployeeServiceTest {
     @Test
     public void findEmployee_whenExists_shouldReturnEmployeeDTO() {
         // Arrange
-        when(employeeRepository.findById(1)).thenReturn(Optional.of(sampleEmployee));
-        when(employeeMapper.toDTO(sampleEmployee)).thenReturn(sampleEmployeeDTO);
+        List<EmployeeNoteRow> rows = Collections.singletonList(createSampleRow(1, "John", "Doe", "john@example.com"));
+        when(employeeRepository.findRowsById(1)).thenReturn(rows);
+        when(employeeMapper.toDTOs(rows)).thenReturn(Collections.singletonList(sampleEmployeeDTO));
 
         // Act
         EmployeeDTO result = employeeService.findEmployee(1);
@@ -142,7 +318,7 @@ public class EmployeeServiceTest {
     @Test(expected = RuntimeException.class)
     public void findEmployee_whenNotExists_shouldThrowRuntimeException() {
         // Arrange
-        when(employeeRepository.findById(999)).thenReturn(Optional.empty());
+        when(employeeRepository.findRowsById(999)).thenReturn(Collections.emptyList());
 
         // Act
         employeeService.findEmployee(999);
@@ -153,7 +329,7 @@ public class EmployeeServiceTest {
     @Test
     public void findEmployee_whenNotExists_exceptionHasCorrectMessage() {
         // Arrange
-        when(employeeRepository.findById(999)).thenReturn(Optional.empty());
+        when(employeeRepository.findRowsById(999)).thenReturn(Collections.emptyList());
 
         // Act
         try {
@@ -169,14 +345,179 @@ public class EmployeeServiceTest {
     public void findEmployee_shouldCallRepositoryWithCorrectId() {
         // Arrange
         int employeeId = 42;
-        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(sampleEmployee));
-        when(employeeMapper.toDTO(sampleEmployee)).thenReturn(sampleEmployeeDTO);
+        List<EmployeeNoteRow> rows = Collections.singletonList(createSampleRow(employeeId, "John", "Doe", "john@example.com"));
+        when(employeeRepository.findRowsById(employeeId)).thenReturn(rows);
+        when(employeeMapper.toDTOs(rows)).thenReturn(Collections.singletonList(sampleEmployeeDTO));
 
         // Act
         employeeService.findEmployee(employeeId);
 
         // Assert
-        verify(employeeRepository, times(1)).findById(employeeId);
+        verify(employeeRepository, times(1)).findRowsById(employeeId);
+    }
+
+    @Test
+    public void findEmployee_whenCached_shouldNotQueryRepository() {
+        // Arrange
+        when(employeeCache.get(1)).thenReturn(Optional.of(sampleEmployeeDTO));
+
+        // Act
+        EmployeeDTO result = employeeService.findEmployee(1);
+
+        // Assert
+        assertSame(sampleEmployeeDTO, result);
+        verify(employeeRepository, never()).findRowsById(anyInt());
+    }
+
+    @Test
+    public void findEmployee_whenNotCached_shouldPopulateCache() {
+        // Arrange
+        List<EmployeeNoteRow> rows = Collections.singletonList(createSampleRow(1, "John", "Doe", "john@example.com"));
+        when(employeeRepository.findRowsById(1)).thenReturn(rows);
+        when(employeeMapper.toDTOs(rows)).thenReturn(Collections.singletonList(sampleEmployeeDTO));
+        when(employeeCache.stamp()).thenReturn(7L);
+
+        // Act
+        employeeService.findEmployee(1);
+
+        // Assert
+        verify(employeeCache, times(1)).put(1, sampleEmployeeDTO, 7L);
+    }
+
+    @Test
+    public void findEmployee_inReadWriteTransaction_shouldBypassCache() {
+        // Arrange
+        List<EmployeeNoteRow> rows = Collections.singletonList(createSampleRow(1, "John", "Doe", "john@example.com"));
+        when(employeeRepository.findRowsById(1)).thenReturn(rows);
+        when(employeeMapper.toDTOs(rows)).thenReturn(Collections.singletonList(sampleEmployeeDTO));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        EmployeeDTO result;
+        try {
+            result = employeeService.findEmployee(1);
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+
+        // Assert
+        assertSame(sampleEmployeeDTO, result);
+        verifyNoInteractions(employeeCache);
+    }
+
+    @Test
+    public void findEmployee_whenNotExists_shouldNotPopulateCache() {
+        // Arrange
+        when(employeeRepository.findRowsById(999)).thenReturn(Collections.emptyList());
+
+        // Act
+        try {
+            employeeService.findEmployee(999);
+            fail("Expected RuntimeException to be thrown");
+        } catch (RuntimeException e) {
+            // Assert
+            verify(employeeCache, never()).put(anyInt(), any(EmployeeDTO.class), anyLong());
+        }
+    }
+
+    @Test
+    public void findEmployee_concurrentMisses_shouldShareOneLoad() throws Exception {
+        // Arrange
+        List<EmployeeNoteRow> rows = Collections.singletonList(createSampleRow(1, "John", "Doe", "john@example.com"));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeRepository.findRowsById(1)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return rows;
+        });
+        when(employeeMapper.toDTOs(rows)).thenReturn(Collections.singletonList(sampleEmployeeDTO));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<EmployeeDTO> leader = executor.submit(() -> employeeService.findEmployee(1));
+            loading.await();
+            Future<EmployeeDTO> follower = executor.submit(() -> employeeService.findEmployee(1));
+            awaitJoined("FindEmployee", 1);
+            release.countDown();
+
+            // Assert
+            assertSame(sampleEmployeeDTO, leader.get(5, TimeUnit.SECONDS));
+            assertSame(sampleEmployeeDTO, follower.get(5, TimeUnit.SECONDS));
+            verify(employeeRepository, times(1)).findRowsById(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void findEmployee_whenSharedLoadFails_shouldThrowToEveryCaller() throws Exception {
+        // Arrange
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeRepository.findRowsById(999)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Collections.emptyList();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<EmployeeDTO> leader = executor.submit(() -> employeeService.findEmployee(999));
+            loading.await();
+            Future<EmployeeDTO> follower = executor.submit(() -> employeeService.findEmployee(999));
+            awaitJoined("FindEmployee", 1);
+            release.countDown();
+
+            // Assert
+            assertEquals("Employee does not exist", failureOf(leader).getMessage());
+            assertEquals("Employee does not exist", failureOf(follower).getMessage());
+            verify(employeeRepository, times(1)).findRowsById(999);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ========== VERSION TESTS ==========
+
+    @Test
+    public void findEmployeeVersion_whenCached_shouldNotQueryRepository() {
+        // Arrange
+        sampleEmployeeDTO.setVersion(3L);
+        when(employeeCache.get(1)).thenReturn(Optional.of(sampleEmployeeDTO));
+
+        // Act
+        Optional<Long> version = employeeService.findEmployeeVersion(1);
+
+        // Assert
+        assertEquals(Optional.of(3L), version);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    public void findEmployeeVersion_whenNotCached_shouldQueryOnlyTheVersion() {
+        // Arrange
+        when(employeeCache.get(1)).thenReturn(Optional.empty());
+        when(employeeRepository.findVersionById(1)).thenReturn(Optional.of(4L));
+
+        // Act
+        Optional<Long> version = employeeService.findEmployeeVersion(1);
+
+        // Assert
+        assertEquals(Optional.of(4L), version);
+        verify(employeeRepository, never()).findRowsById(anyInt());
+        verifyNoInteractions(employeeMapper);
+    }
+
+    @Test
+    public void findEmployeesVersion_shouldReturnChangeCounter() {
+        // Arrange
+        when(employeeChangeCounter.current()).thenReturn("abc-7");
+
+        // Act & Assert
+        assertEquals("abc-7", employeeService.findEmployeesVersion());
     }
 
     // ========== UPDATE EMPLOYEE TESTS ==========
@@ -185,8 +526,7 @@ public class EmployeeServiceTest {
     public void updateEmployee_shouldSetEmployeeIdOnDTO() {
         // Arrange
         EmployeeDTO inputDTO = createSampleEmployeeDTO(null, "Updated", "Name", "updated@example.com");
-        when(employeeMapper.toEntity(any(EmployeeDTO.class))).thenReturn(sampleEmployee);
-        when(employeeRepository.save(any(Employee.class))).thenReturn(sampleEmployee);
+        when(employeeRepository.findById(5)).thenReturn(Optional.of(sampleEmployee));
 
         // Act
         employeeService.updateEmployee(5, inputDTO);
@@ -196,57 +536,152 @@ public class EmployeeServiceTest {
     }
 
     @Test
-    public void updateEmployee_shouldMapAndSave() {
+    public void updateEmployee_shouldApplyChangesToLoadedEntity() {
         // Arrange
-        when(employeeMapper.toEntity(sampleEmployeeDTO)).thenReturn(sampleEmployee);
-        when(employeeRepository.save(sampleEmployee)).thenReturn(sampleEmployee);
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(sampleEmployee));
 
         // Act
         employeeService.updateEmployee(1, sampleEmployeeDTO);
 
         // Assert
-        verify(employeeMapper, times(1)).toEntity(sampleEmployeeDTO);
-        verify(employeeRepository, times(1)).save(sampleEmployee);
+        verify(employeeMapper, times(1)).updateEntity(sampleEmployee, sampleEmployeeDTO);
+        verify(employeeMapper, never()).toEntity(any(EmployeeDTO.class));
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void updateEmployee_whenNotExists_shouldThrowRuntimeException() {
+        // Arrange
+        when(employeeRepository.findById(999)).thenReturn(Optional.empty());
+
+        // Act
+        employeeService.updateEmployee(999, sampleEmployeeDTO);
+    }
+
+    @Test
+    public void updateEmployee_withStaleVersion_shouldThrowWithoutApplyingChanges() {
+        // Arrange
+        sampleEmployeeDTO.setVersion(5L);
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(sampleEmployee));
+
+        // Act
+        try {
+            employeeService.updateEmployee(1, sampleEmployeeDTO);
+            fail("Expected OptimisticLockingFailureException to be thrown");
+        } catch (OptimisticLockingFailureException e) {
+            // Assert
+            verify(employeeMapper, never()).updateEntity(any(Employee.class), any(EmployeeDTO.class));
+        }
+    }
+
+    @Test
+    public void updateEmployee_whenOnlyNotesChanged_shouldForceVersionIncrement() {
+        // Arrange
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(sampleEmployee));
+        when(employeeMapper.updateEntity(sampleEmployee, sampleEmployeeDTO)).thenReturn(EmployeeMapper.Update.NOTES_CHANGED);
+
+        // Act
+        employeeService.updateEmployee(1, sampleEmployeeDTO);
+
+        // Assert
+        verify(entityManager, times(1)).lock(sampleEmployee, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        verify(employeeChangeCounter, times(1)).recordChange();
+        verify(employeeChangeLog, times(1)).record(1, EmployeeChangeType.UPDATED);
+    }
+
+    @Test
+    public void updateEmployee_whenNothingChanged_shouldNotRecordAChange() {
+        // Arrange
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(sampleEmployee));
+        when(employeeMapper.updateEntity(sampleEmployee, sampleEmployeeDTO)).thenReturn(EmployeeMapper.Update.UNCHANGED);
+
+        // Act
+        employeeService.updateEmployee(1, sampleEmployeeDTO);
+
+        // Assert
+        verifyNoInteractions(employeeChangeLog, employeeCache, employeeChangeCounter);
+        verify(entityManager, never()).lock(any(), any(LockModeType.class));
+    }
+
+    @Test
+    public void updateEmployee_shouldEvictCachedEmployee() {
+        // Arrange
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(sampleEmployee));
+        when(employeeMapper.updateEntity(sampleEmployee, sampleEmployeeDTO)).thenReturn(EmployeeMapper.Update.EMPLOYEE_CHANGED);
+
+        // Act
+        employeeService.updateEmployee(1, sampleEmployeeDTO);
+
+        // Assert
+        verify(employeeCache, times(1)).evictAfterCommit(1);
     }
 
     // ========== DELETE EMPLOYEE TESTS ==========
 
     @Test
-    public void deleteEmployee_whenExists_shouldDelete() {
+    public void deleteEmployee_whenExists_shouldDeleteNotesThenEmployeeAndReturnTrue() {
+        // Arrange
+        when(employeeRepository.deleteEmployeeById(1)).thenReturn(1);
+
+        // Act
+        boolean deleted = employeeService.deleteEmployee(1);
+
+        // Assert
+        assertTrue(deleted);
+        InOrder inOrder = inOrder(employeeRepository);
+        inOrder.verify(employeeRepository).deleteNotesByEmployeeId(1);
+        inOrder.verify(employeeRepository).deleteEmployeeById(1);
+    }
+
+    @Test
+    public void deleteEmployee_whenNotExists_shouldReturnFalse() {
         // Arrange
-        when(employeeRepository.existsById(1)).thenReturn(true);
-        doNothing().when(employeeRepository).deleteById(1);
+        when(employeeRepository.deleteEmployeeById(999)).thenReturn(0);
+
+        // Act
+        boolean deleted = employeeService.deleteEmployee(999);
+
+        // Assert
+        assertFalse(deleted);
+        verifyNoInteractions(employeeChangeLog);
+    }
+
+    @Test
+    public void deleteEmployee_whenExists_shouldLogTheDelete() {
+        // Arrange
+        when(employeeRepository.deleteEmployeeById(1)).thenReturn(1);
 
         // Act
         employeeService.deleteEmployee(1);
 
         // Assert
-        verify(employeeRepository, times(1)).deleteById(1);
+        verify(employeeChangeLog, times(1)).record(1, EmployeeChangeType.DELETED);
     }
 
     @Test
-    public void deleteEmployee_whenNotExists_shouldNotAttemptDelete() {
+    public void deleteEmployee_shouldNotLoadOrCheckExistenceFirst() {
         // Arrange
-        when(employeeRepository.existsById(999)).thenReturn(false);
+        when(employeeRepository.deleteEmployeeById(1)).thenReturn(1);
 
         // Act
-        employeeService.deleteEmployee(999);
+        employeeService.deleteEmployee(1);
 
         // Assert
+        verify(employeeRepository, never()).existsById(anyInt());
+        verify(employeeRepository, never()).findById(anyInt());
         verify(employeeRepository, never()).deleteById(anyInt());
     }
 
     @Test
-    public void deleteEmployee_shouldCheckExistenceFirst() {
+    public void deleteEmployee_shouldEvictCachedEmployee() {
         // Arrange
-        when(employeeRepository.existsById(1)).thenReturn(true);
-        doNothing().when(employeeRepository).deleteById(1);
+        when(employeeRepository.deleteEmployeeById(1)).thenReturn(1);
 
         // Act
         employeeService.deleteEmployee(1);
 
         // Assert
-        verify(employeeRepository, times(1)).existsById(1);
+        verify(employeeCache, times(1)).evictAfterCommit(1);
     }
 
     // ========== HELPER METHODS ==========
@@ -260,6 +695,28 @@ public class EmployeeServiceTest {
         return employee;
     }
 
+    private void awaitJoined(String behavior, int callers) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("employee.single.flight").tags("behavior", behavior, "result", "joined").counter().count() < callers
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private Throwable failureOf(Future<?> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Expected the call to fail");
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    private EmployeeNoteRow createSampleRow(int id, String firstName, String lastName, String email) {
+        return new EmployeeNoteRow(id, firstName, lastName, email, 0, null, null);
+    }
+
     private EmployeeDTO createSampleEmployeeDTO(Integer id, String firstName, String lastName, String email) {
         EmployeeDTO dto = new EmployeeDTO();
         dto.setEmployeeID(id);
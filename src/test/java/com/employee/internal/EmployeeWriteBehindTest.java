@@ -0,0 +1,276 @@
+package com.employee.internal;
+
+import com.employee.api.model.EmployeeChangeType;
+import com.employee.api.model.EmployeeCreationDTO;
+import com.employee.api.model.EmployeeCreationStatus;
+import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EmployeeWriteBehind.
+ *
+ * Repository, change log and transaction manager are mocked, and the writer
+ * thread is never started; batches are written by calling writeNext directly.
+ * We're testing that the write-behind queue:
+ * - Turns employees away once it is full
+ * - Refuses an invalid employee without queueing it
+ * - Inserts what is queued in one transaction, up to the batch size
+ * - Retries a failed batch one employee at a time
+ * - Does not retry a batch whose work after commit fails
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmployeeWriteBehindTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Mock
+    private EmployeeChangeCounter employeeChangeCounter;
+
+    @Mock
+    private EmployeeChangeLog employeeChangeLog;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final AtomicInteger nextEmployeeId = new AtomicInteger(1);
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    public void enqueueEmployee_whenQueueIsFull_shouldRejectAndCount() {
+        // Arrange
+        EmployeeWriteBehind writeBehind = createWriteBehind(2, 500);
+        writeBehind.enqueueEmployee(createEmployeeDTO("John"));
+        writeBehind.enqueueEmployee(createEmployeeDTO("Jane"));
+
+        // Act
+        Optional<EmployeeCreationDTO> creation = writeBehind.enqueueEmployee(createEmployeeDTO("Jim"));
+
+        // Assert
+        assertFalse(creation.isPresent());
+        assertEquals(1.0, meterRegistry.get("employee.create.rejected").counter().count(), 0.0);
+        assertEquals(2.0, meterRegistry.get("employee.create.queue.depth").gauge().value(), 0.0);
+    }
+
+    @Test
+    public void enqueueEmployee_withMissingField_shouldThrowWithoutQueueing() {
+        // Arrange
+        EmployeeWriteBehind writeBehind = createWriteBehind(2, 500);
+        EmployeeDTO employeeDTO = createEmployeeDTO("John");
+        employeeDTO.setLastName(null);
+
+        // Act
+        try {
+            writeBehind.enqueueEmployee(employeeDTO);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Assert
+            assertEquals("lastName is required", e.getMessage());
+        }
+        assertEquals(0.0, meterRegistry.get("employee.create.queue.depth").gauge().value(), 0.0);
+        assertEquals(0.0, meterRegistry.get("employee.create.rejected").counter().count(), 0.0);
+    }
+
+    @Test
+    public void writeNext_shouldInsertQueuedEmployeesInOneTransactionUpToBatchSize() throws Exception {
+        // Arrange
+        stubSaveAssigningIds();
+        EmployeeWriteBehind writeBehind = createWriteBehind(10, 2);
+        EmployeeCreationDTO first = writeBehind.enqueueEmployee(createEmployeeDTO("John")).orElseThrow();
+        EmployeeCreationDTO second = writeBehind.enqueueEmployee(createEmployeeDTO("Jane")).orElseThrow();
+        EmployeeCreationDTO third = writeBehind.enqueueEmployee(createEmployeeDTO("Jim")).orElseThrow();
+
+        // Act
+        int written = writeBehind.writeNext(0);
+
+        // Assert
+        assertEquals(2, written);
+        verify(transactionManager, times(1)).commit(any());
+        verify(employeeChangeLog).record(Arrays.asList(1, 2), EmployeeChangeType.CREATED);
+        verify(employeeChangeCounter, times(1)).recordChange();
+        assertCreation(writeBehind, first, EmployeeCreationStatus.CREATED, 1);
+        assertCreation(writeBehind, second, EmployeeCreationStatus.CREATED, 2);
+        assertCreation(writeBehind, third, EmployeeCreationStatus.QUEUED, null);
+        DistributionSummary batchSizes = meterRegistry.get("employee.create.batch.size").summary();
+        assertEquals(1, batchSizes.count());
+        assertEquals(2.0, batchSizes.totalAmount(), 0.0);
+    }
+
+    @Test
+    public void writeNext_whenBatchFails_shouldRetryEachEmployeeOnItsOwn() throws Exception {
+        // Arrange
+        stubSaveAssigningIds();
+        EmployeeWriteBehind writeBehind = createWriteBehind(10, 500);
+        EmployeeCreationDTO bad = writeBehind.enqueueEmployee(createEmployeeDTO("Bad")).orElseThrow();
+        EmployeeCreationDTO good = writeBehind.enqueueEmployee(createEmployeeDTO("John")).orElseThrow();
+
+        // Act
+        writeBehind.writeNext(0);
+
+        // Assert
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(employeeChangeLog).record(Collections.singletonList(1), EmployeeChangeType.CREATED);
+        EmployeeCreationDTO failed = writeBehind.findEmployeeCreation(bad.getCreationId()).orElseThrow();
+        assertEquals(EmployeeCreationStatus.FAILED, failed.getStatus());
+        assertEquals("Employee could not be created", failed.getMessage());
+        assertCreation(writeBehind, good, EmployeeCreationStatus.CREATED, 1);
+    }
+
+    @Test
+    public void writeNext_whenWorkAfterCommitFails_shouldNotInsertTheBatchAgain() throws Exception {
+        // Arrange
+        stubSaveAssigningIds();
+        doAnswer(invocation -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    throw new IllegalStateException("catch-up failed");
+                }
+            });
+            return null;
+        }).when(employeeChangeLog).record(anyCollection(), eq(EmployeeChangeType.CREATED));
+        EmployeeWriteBehind writeBehind = createWriteBehind(new SynchronizingTransactionManager(), 10, 500);
+        EmployeeCreationDTO first = writeBehind.enqueueEmployee(createEmployeeDTO("John")).orElseThrow();
+        EmployeeCreationDTO second = writeBehind.enqueueEmployee(createEmployeeDTO("Jane")).orElseThrow();
+
+        // Act
+        writeBehind.writeNext(0);
+
+        // Assert
+        verify(employeeRepository, times(2)).save(any(Employee.class));
+        assertCreation(writeBehind, first, EmployeeCreationStatus.CREATED, 1);
+        assertCreation(writeBehind, second, EmployeeCreationStatus.CREATED, 2);
+    }
+
+    @Test
+    public void writeNext_withEmployeeId_shouldEvictAndLogAnUpdate() throws Exception {
+        // Arrange
+        EmployeeWriteBehind writeBehind = createWriteBehind(10, 500);
+        EmployeeDTO employeeDTO = createEmployeeDTO("John");
+        employeeDTO.setEmployeeID(7);
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        writeBehind.enqueueEmployee(employeeDTO);
+
+        // Act
+        writeBehind.writeNext(0);
+
+        // Assert
+        verify(employeeCache).evictAfterCommit(7);
+        verify(employeeChangeLog).record(Collections.singletonList(7), EmployeeChangeType.UPDATED);
+        verify(employeeChangeLog).record(eq(Collections.emptyList()), eq(EmployeeChangeType.CREATED));
+    }
+
+    @Test
+    public void findEmployeeCreation_withUnknownId_shouldReturnEmpty() {
+        // Arrange
+        EmployeeWriteBehind writeBehind = createWriteBehind(10, 500);
+
+        // Act
+        Optional<EmployeeCreationDTO> creation = writeBehind.findEmployeeCreation("unknown");
+
+        // Assert
+        assertFalse(creation.isPresent());
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private EmployeeWriteBehind createWriteBehind(int queueCapacity, int maxBatchSize) {
+        return createWriteBehind(transactionManager, queueCapacity, maxBatchSize);
+    }
+
+    private EmployeeWriteBehind createWriteBehind(
+            PlatformTransactionManager transactionManager, int queueCapacity, int maxBatchSize) {
+        return new EmployeeWriteBehind(
+                employeeRepository,
+                new EmployeeMapper(meterRegistry),
+                employeeCache,
+                employeeChangeCounter,
+                employeeChangeLog,
+                transactionManager,
+                meterRegistry,
+                queueCapacity,
+                maxBatchSize,
+                100);
+    }
+
+    private void stubSaveAssigningIds() {
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            if ("Bad".equals(employee.getFirstName())) {
+                throw new IllegalStateException("constraint violated");
+            }
+            employee.setEmployeeId(nextEmployeeId.getAndIncrement());
+            return employee;
+        });
+    }
+
+    private void assertCreation(
+            EmployeeWriteBehind writeBehind, EmployeeCreationDTO creation, EmployeeCreationStatus status, Integer employeeId) {
+        EmployeeCreationDTO current = writeBehind.findEmployeeCreation(creation.getCreationId()).orElseThrow();
+        assertEquals(status, current.getStatus());
+        assertEquals(employeeId, current.getEmployeeID());
+    }
+
+    private EmployeeDTO createEmployeeDTO(String firstName) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setFirstName(firstName);
+        dto.setLastName("Doe");
+        dto.setEmailAddress(firstName.toLowerCase() + "@example.com");
+        dto.setNotes(List.of("First note"));
+        return dto;
+    }
+
+    // Runs transaction synchronizations, which the mocked manager does not.
+    private static class SynchronizingTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
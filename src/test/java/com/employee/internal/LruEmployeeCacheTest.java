@@ -0,0 +1,279 @@
+package com.employee.internal;
+
+import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for LruEmployeeCache.
+ *
+ * These tests verify the eviction and expiry rules of the cache,
+ * that a put stamped before an evict is dropped, that evictAfterCommit waits for the commit,
+ * and the hit/miss/eviction counters it exposes, which EmployeeCacheMetrics publishes as meters.
+ * A controllable clock is used instead of sleeping.
+ */
+public class LruEmployeeCacheTest {
+
+    private MutableClock clock;
+    private LruEmployeeCache cache;
+
+    @Before
+    public void setUp() {
+        clock = new MutableClock();
+        cache = new LruEmployeeCache(2, Duration.ofMinutes(5), clock);
+    }
+
+    @After
+    public void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    // ========== GET / PUT TESTS ==========
+
+    @Test
+    public void get_whenEmpty_shouldReturnEmptyAndCountMiss() {
+        // Act & Assert
+        assertFalse(cache.get(1).isPresent());
+        assertEquals(1, cache.missCount());
+        assertEquals(0, cache.hitCount());
+    }
+
+    @Test
+    public void get_afterPut_shouldReturnSameDTOAndCountHit() {
+        // Arrange
+        EmployeeDTO dto = createEmployeeDTO(1);
+        cache.put(1, dto, cache.stamp());
+
+        // Act & Assert
+        assertSame(dto, cache.get(1).orElseThrow());
+        assertEquals(1, cache.hitCount());
+    }
+
+    // ========== EVICTION TESTS ==========
+
+    @Test
+    public void put_beyondMaxSize_shouldEvictLeastRecentlyUsed() {
+        // Arrange
+        cache.put(1, createEmployeeDTO(1), cache.stamp());
+        cache.put(2, createEmployeeDTO(2), cache.stamp());
+        cache.get(1);
+
+        // Act
+        cache.put(3, createEmployeeDTO(3), cache.stamp());
+
+        // Assert
+        assertTrue(cache.get(1).isPresent());
+        assertFalse(cache.get(2).isPresent());
+        assertTrue(cache.get(3).isPresent());
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    public void get_afterTtl_shouldExpireEntry() {
+        // Arrange
+        cache.put(1, createEmployeeDTO(1), cache.stamp());
+
+        // Act
+        clock.advance(Duration.ofMinutes(5));
+
+        // Assert
+        assertFalse(cache.get(1).isPresent());
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    public void get_beforeTtl_shouldReturnEntry() {
+        // Arrange
+        cache.put(1, createEmployeeDTO(1), cache.stamp());
+
+        // Act
+        clock.advance(Duration.ofMinutes(4));
+
+        // Assert
+        assertTrue(cache.get(1).isPresent());
+    }
+
+    // ========== INVALIDATION TESTS ==========
+
+    @Test
+    public void evict_shouldRemoveEntryWithoutCountingEviction() {
+        // Arrange
+        cache.put(1, createEmployeeDTO(1), cache.stamp());
+
+        // Act
+        cache.evict(1);
+
+        // Assert
+        assertFalse(cache.get(1).isPresent());
+        assertEquals(0, cache.evictionCount());
+    }
+
+    @Test
+    public void evictAfterCommit_inTransaction_shouldEvictOnlyOnceCommitted() {
+        // Arrange
+        cache.put(1, createEmployeeDTO(1), cache.stamp());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.evictAfterCommit(1);
+
+        // Assert
+        assertTrue(cache.get(1).isPresent());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertFalse(cache.get(1).isPresent());
+    }
+
+    @Test
+    public void evictAfterCommit_withoutTransaction_shouldEvictImmediately() {
+        // Arrange
+        cache.put(1, createEmployeeDTO(1), cache.stamp());
+
+        // Act
+        cache.evictAfterCommit(1);
+
+        // Assert
+        assertFalse(cache.get(1).isPresent());
+    }
+
+    @Test
+    public void clear_shouldRemoveAllEntries() {
+        // Arrange
+        cache.put(1, createEmployeeDTO(1), cache.stamp());
+        cache.put(2, createEmployeeDTO(2), cache.stamp());
+
+        // Act
+        cache.clear();
+
+        // Assert
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_stampedBeforeEvict_shouldBeDropped() {
+        // Arrange
+        long stamp = cache.stamp();
+        cache.evict(1);
+
+        // Act
+        cache.put(1, createEmployeeDTO(1), stamp);
+
+        // Assert
+        assertFalse(cache.get(1).isPresent());
+    }
+
+    @Test
+    public void put_stampedBeforeEvictOfAnotherEmployee_shouldBeStored() {
+        // Arrange
+        long stamp = cache.stamp();
+        cache.evict(2);
+
+        // Act
+        cache.put(1, createEmployeeDTO(1), stamp);
+
+        // Assert
+        assertTrue(cache.get(1).isPresent());
+    }
+
+    @Test
+    public void put_stampedBeforeForgottenEvict_shouldBeDropped() {
+        // Arrange
+        long stamp = cache.stamp();
+        cache.evict(1);
+        cache.evict(2);
+        cache.evict(3);
+
+        // Act
+        cache.put(4, createEmployeeDTO(4), stamp);
+        cache.put(5, createEmployeeDTO(5), cache.stamp());
+
+        // Assert
+        assertFalse(cache.get(4).isPresent());
+        assertTrue(cache.get(5).isPresent());
+    }
+
+    @Test
+    public void put_stampedBeforeClear_shouldBeDropped() {
+        // Arrange
+        long stamp = cache.stamp();
+        cache.clear();
+
+        // Act
+        cache.put(1, createEmployeeDTO(1), stamp);
+
+        // Assert
+        assertFalse(cache.get(1).isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_withNonPositiveSize_shouldThrowException() {
+        new LruEmployeeCache(0, Duration.ofMinutes(5));
+    }
+
+    // ========== METRICS TESTS ==========
+
+    @Test
+    public void metrics_shouldReportCacheCounters() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new EmployeeCacheMetrics(cache).bindTo(registry);
+        cache.put(1, createEmployeeDTO(1), cache.stamp());
+        cache.put(2, createEmployeeDTO(2), cache.stamp());
+        cache.put(3, createEmployeeDTO(3), cache.stamp());
+
+        // Act
+        cache.get(3);
+        cache.get(1);
+
+        // Assert
+        assertEquals(1.0, registry.get("employee.cache.requests").tag("result", "hit").functionCounter().count(), 0.0);
+        assertEquals(1.0, registry.get("employee.cache.requests").tag("result", "miss").functionCounter().count(), 0.0);
+        assertEquals(1.0, registry.get("employee.cache.evictions").functionCounter().count(), 0.0);
+        assertEquals(2.0, registry.get("employee.cache.size").gauge().value(), 0.0);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private EmployeeDTO createEmployeeDTO(Integer id) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setEmployeeID(id);
+        return dto;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
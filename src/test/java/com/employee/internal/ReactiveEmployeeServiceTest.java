@@ -0,0 +1,92 @@
+package com.employee.internal;
+
+import com.employee.api.model.EmployeeDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactiveEmployeeService.
+ *
+ * The repository is mocked and the real EmployeeMapper is used - we're testing that the service
+ * maps every row it is given and completes empty for an unknown employee.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveEmployeeServiceTest {
+
+    @Mock
+    private ReactiveEmployeeRepository employeeRepository;
+
+    private ReactiveEmployeeService service;
+
+    @Before
+    public void setUp() {
+        service = new ReactiveEmployeeService(employeeRepository, new EmployeeMapper(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    public void findEmployees_shouldMapEveryRow() {
+        // Arrange
+        when(employeeRepository.findAllWithNotes()).thenReturn(Flux.just(
+                createRow(1, "John", "First", "Second"),
+                createRow(2, "Jane")));
+
+        // Act
+        List<EmployeeDTO> employees = service.findEmployees().collectList().block();
+
+        // Assert
+        assertEquals(2, employees.size());
+        assertEquals("John", employees.get(0).getFirstName());
+        assertEquals(Arrays.asList("First", "Second"), employees.get(0).getNotes());
+        assertEquals(Integer.valueOf(2), employees.get(1).getEmployeeID());
+        assertTrue(employees.get(1).getNotes().isEmpty());
+    }
+
+    @Test
+    public void findEmployee_shouldReturnEmployeeWithNotes() {
+        // Arrange
+        when(employeeRepository.findWithNotesById(1)).thenReturn(Mono.just(createRow(1, "John", "Note")));
+
+        // Act
+        EmployeeDTO employee = service.findEmployee(1).block();
+
+        // Assert
+        assertNotNull(employee);
+        assertEquals("John", employee.getFirstName());
+        assertEquals(Collections.singletonList("Note"), employee.getNotes());
+    }
+
+    @Test
+    public void findEmployee_shouldCompleteEmptyWhenEmployeeDoesNotExist() {
+        // Arrange
+        when(employeeRepository.findWithNotesById(999)).thenReturn(Mono.empty());
+
+        // Act
+        EmployeeDTO employee = service.findEmployee(999).block();
+
+        // Assert
+        assertNull(employee);
+    }
+
+    private EmployeeRow createRow(int id, String firstName, String... notes) {
+        EmployeeRow row = new EmployeeRow();
+        row.setEmployeeId(id);
+        row.setFirstName(firstName);
+        row.setLastName("Doe");
+        row.setEmailAddress(firstName.toLowerCase() + "@example.com");
+        row.getNotes().addAll(Arrays.asList(notes));
+        return row;
+    }
+}
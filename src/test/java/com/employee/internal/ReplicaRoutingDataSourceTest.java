@@ -0,0 +1,209 @@
+package com.employee.internal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource.
+ *
+ * The primary and replica pools are mocked and transactions are simulated with
+ * TransactionSynchronizationManager - we're testing that the DataSource:
+ * - Sends read-only transactions to the replicas in turn
+ * - Sends read-write transactions and work outside a transaction to the primary
+ * - Reads from the primary for max-lag after a write commits, counted apart from fallbacks
+ * - Skips a failing replica until a health check finds it working, and falls back to the primary
+ * - Keeps a replica whose pool times out in rotation
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReplicaRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(1);
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replica1Connection;
+
+    @Mock
+    private Connection replica2Connection;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource dataSource;
+
+    @Before
+    public void setUp() {
+        clock = new MutableClock();
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ReplicaRoutingDataSource(primary, Arrays.asList(replica1, replica2), MAX_LAG, meterRegistry, clock);
+    }
+
+    @After
+    public void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    public void getConnection_inReadOnlyTransactions_shouldAlternateBetweenReplicas() throws Exception {
+        // Arrange
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+
+        // Act & Assert
+        assertSame(replica1Connection, inTransaction(true));
+        assertSame(replica2Connection, inTransaction(true));
+        assertSame(replica1Connection, inTransaction(true));
+        verifyNoInteractions(primary);
+        assertEquals(3.0, connections("replica"), 0.0);
+    }
+
+    @Test
+    public void getConnection_inReadWriteTransactionOrWithoutTransaction_shouldUsePrimary() throws Exception {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act & Assert
+        assertSame(primaryConnection, inTransaction(false));
+        assertSame(primaryConnection, dataSource.getConnection());
+        verifyNoInteractions(replica1, replica2);
+        assertEquals(2.0, connections("primary"), 0.0);
+    }
+
+    @Test
+    public void getConnection_afterWriteCommits_shouldReadFromPrimaryUntilMaxLagPasses() throws Exception {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        inTransaction(false);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clear();
+
+        // Act & Assert
+        clock.advance(MAX_LAG.minusMillis(1));
+        assertSame(primaryConnection, inTransaction(true));
+        clock.advance(Duration.ofMillis(1));
+        assertSame(replica1Connection, inTransaction(true));
+        assertEquals(1.0, connections("recent-write"), 0.0);
+        assertEquals(0.0, connections("fallback"), 0.0);
+    }
+
+    @Test
+    public void getConnection_whenReplicaFails_shouldSkipItUntilHealthCheckPasses() throws Exception {
+        // Arrange
+        when(replica1.getConnection())
+                .thenThrow(new SQLNonTransientConnectionException("Connection refused"))
+                .thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+        when(replica1Connection.isValid(anyInt())).thenReturn(true);
+        when(replica2Connection.isValid(anyInt())).thenReturn(true);
+
+        // Act & Assert
+        assertSame(replica2Connection, inTransaction(true));
+        assertSame(replica2Connection, inTransaction(true));
+        dataSource.checkReplicas();
+        assertSame(replica1Connection, inTransaction(true));
+        assertEquals(2.0, meterRegistry.get("employee.datasource.replicas.healthy").gauge().value(), 0.0);
+    }
+
+    @Test
+    public void getConnection_whenReplicaPoolTimesOut_shouldKeepItInRotation() throws Exception {
+        // Arrange
+        when(replica1.getConnection())
+                .thenThrow(new SQLTransientConnectionException("Connection is not available, request timed out"))
+                .thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+
+        // Act & Assert
+        assertSame(replica2Connection, inTransaction(true));
+        assertSame(replica1Connection, inTransaction(true));
+        assertEquals(2.0, meterRegistry.get("employee.datasource.replicas.healthy").gauge().value(), 0.0);
+    }
+
+    @Test
+    public void getConnection_withNoHealthyReplica_shouldFallBackToPrimary() throws Exception {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(replica2.getConnection()).thenThrow(new IllegalStateException("Failed to initialize pool"));
+        dataSource.checkReplicas();
+
+        // Act
+        Connection connection = inTransaction(true);
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        assertEquals(1.0, connections("fallback"), 0.0);
+        assertEquals(0.0, meterRegistry.get("employee.datasource.replicas.healthy").gauge().value(), 0.0);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    // Gets a connection the way a transaction's first statement would, leaving the transaction open.
+    private Connection inTransaction(boolean readOnly) throws SQLException {
+        TransactionSynchronizationManager.clear();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        return dataSource.getConnection();
+    }
+
+    private double connections(String route) {
+        return meterRegistry.get("employee.datasource.connections").tag("route", route).counter().count();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
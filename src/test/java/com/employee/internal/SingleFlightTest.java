@@ -0,0 +1,110 @@
+package com.employee.internal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for SingleFlight.
+ *
+ * These tests verify that loads are shared only while they run and only
+ * between callers of the same key, and that a caller waiting on someone
+ * else's load gives up after the timeout.
+ */
+public class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private CountDownLatch loading;
+    private CountDownLatch release;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(2);
+        loading = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void load_whileAnotherCallerWaitsTooLong_shouldTimeOutOnlyTheWaitingCaller() throws Exception {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("Test", Duration.ofMillis(50), meterRegistry);
+        Future<String> leader = executor.submit(() -> singleFlight.load("key", this::blockedLoad));
+        loading.await();
+
+        // Act
+        Future<String> follower = executor.submit(() -> singleFlight.load("key", () -> "unused"));
+
+        // Assert
+        try {
+            follower.get(5, TimeUnit.SECONDS);
+            fail("Expected the waiting caller to time out");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof QueryTimeoutException);
+        }
+        release.countDown();
+        assertEquals("loaded", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void load_withDifferentKeys_shouldNotShare() throws Exception {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("Test", Duration.ofSeconds(5), meterRegistry);
+        executor.submit(() -> singleFlight.load("first", this::blockedLoad));
+        loading.await();
+
+        // Act
+        String result = singleFlight.load("second", () -> "second");
+
+        // Assert
+        assertEquals("second", result);
+        assertEquals(2.0, meterRegistry.get("employee.single.flight").tag("result", "led").counter().count(), 0.0);
+    }
+
+    @Test
+    public void load_afterEarlierLoadCompleted_shouldLoadAgain() {
+        // Arrange
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>("Test", Duration.ofSeconds(5), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        singleFlight.load("key", loads::incrementAndGet);
+
+        // Act
+        int result = singleFlight.load("key", loads::incrementAndGet);
+
+        // Assert
+        assertEquals(2, result);
+        assertEquals(0.0, meterRegistry.get("employee.single.flight").tag("result", "joined").counter().count(), 0.0);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    private String blockedLoad() {
+        loading.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "loaded";
+    }
+}